@@ -23,7 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonJournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,18 +58,31 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getHreersDatafilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getHreersDatafilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, userPrefs.getSaveDelayMillis());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file at {@code dataFilePath}. <br>
+     * Data files with the {@code BinaryAddressBookStorage#FILE_EXTENSION} extension are stored in the binary format,
+     * and all others as json with a journal of changes.
+     */
+    private AddressBookStorage initAddressBookStorage(Path dataFilePath) {
+        if (BinaryAddressBookStorage.isBinaryDataFile(dataFilePath)) {
+            return new BinaryAddressBookStorage(dataFilePath);
+        }
+        return new JsonJournalAddressBookStorage(dataFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * A json address book is read from its last snapshot with the journal of later changes replayed on top. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
@@ -177,6 +191,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Hreers ] =============================");
+        try {
+            logic.flushPendingSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +98,95 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the path the previous content of {@code file} is kept at by
+     * {@link #writeToFileAtomicallyKeepingPrevious(Path, ContentWriter)}.
+     */
+    public static Path getPreviousGenerationPath(Path file) {
+        return file.resolveSibling(file.getFileName() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to {@code file}, such that {@code file} holds either its
+     * old or its new content in full, even if the app or the system crashes while writing.
+     * The content is streamed to a temporary file next to {@code file}, forced to the disk,
+     * and then moved over {@code file}. Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeThroughTemporaryFile(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but keeps the previous content of
+     * {@code file} at {@link #getPreviousGenerationPath(Path)} as a fallback.
+     */
+    public static void writeToFileAtomicallyKeepingPrevious(Path file, ContentWriter contentWriter)
+            throws IOException {
+        writeThroughTemporaryFile(file, contentWriter, true);
+    }
+
+    private static void writeThroughTemporaryFile(Path file, ContentWriter contentWriter, boolean keepPrevious)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new UnclosableOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        if (keepPrevious && Files.exists(file)) {
+            move(file, getPreviousGenerationPath(file));
+        }
+        move(temporaryFile, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that files moved into it stay there after a crash.
+     * Not all platforms allow this, in which case the entries are written whenever the system gets to it.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or forced on some platforms (e.g. Windows).
+        }
+    }
+
+    /**
+     * An output stream that is only flushed when closed, so that the channel under it stays open.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
@@ -25,6 +25,19 @@ public class MultiFormatLocalDateDeserializer extends JsonDeserializer<LocalDate
     @Override
     public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
         String dateStr = p.getText().trim();
+        try {
+            return parse(dateStr);
+        } catch (DateTimeParseException e) {
+            throw new JsonProcessingException(e.getMessage()) {};
+        }
+    }
+
+    /**
+     * Parses {@code dateStr} in any of the supported date formats.
+     *
+     * @throws DateTimeParseException if {@code dateStr} is not in any of the supported formats.
+     */
+    public static LocalDate parse(String dateStr) {
         for (DateTimeFormatter formatter : DATE_FORMATTERS) {
             try {
                 return LocalDate.parse(dateStr, formatter);
@@ -32,6 +45,6 @@ public class MultiFormatLocalDateDeserializer extends JsonDeserializer<LocalDate
                 // continue
             }
         }
-        throw new JsonProcessingException("Unable to parse date: " + dateStr) {};
+        throw new DateTimeParseException("Unable to parse date: " + dateStr, dateStr, 0);
     }
 }
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Helper functions for validating the values of fields without compiling a regex on every call.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is between {@code minLength} and {@code maxLength} characters long (inclusive),
+     * and every character of it is accepted by {@code allowedCharacter}.
+     */
+    public static boolean hasOnlyCharacters(String test, int minLength, int maxLength,
+            IntPredicate allowedCharacter) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!allowedCharacter.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiLetterOrDigit(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, the characters matched by {@code \d}.
+     */
+    public static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns the index of the first of {@code values} that {@code validator} rejects, or -1 if it accepts all of them.
+     */
+    public static <T> int indexOfFirstInvalid(List<? extends T> values, Predicate<? super T> validator) {
+        requireNonNull(values);
+        requireNonNull(validator);
+        for (int i = 0; i < values.size(); i++) {
+            if (!validator.test(values.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Saves the address book on a background thread, so that commands do not wait for the data file to be written.
+ *
+ * A save is only started once the configured delay has passed since the first request after the previous save,
+ * and writes the most recently requested address book followed by the mutations requested after it.
+ * Back-to-back changes are therefore written together.
+ * A failed save is kept until it is taken with {@link #takeFailure()}, so it can be reported to the user.
+ */
+class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The address book to save next, or null if there is no address book to save. */
+    private ReadOnlyAddressBook pendingAddressBook;
+    /** The mutations to save after {@code pendingAddressBook}, or on top of the last save if there is none. */
+    private List<AddressBookMutation> pendingMutations = new ArrayList<>();
+    private Future<?> scheduledSave;
+    private IOException failure;
+
+    /**
+     * Creates a saver that saves to {@code storage}, {@code saveDelayMillis} milliseconds after a save is requested.
+     */
+    BackgroundAddressBookSaver(AddressBookStorage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved, replacing any address book that has not been saved yet.
+     * {@code addressBook} must not be modified afterwards.
+     */
+    synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = addressBook;
+        pendingMutations = new ArrayList<>();
+        scheduleSave();
+    }
+
+    /**
+     * Requests {@code mutations} to be saved after the address book and mutations that have not been saved yet.
+     * The storage must be able to save mutations, and {@code mutations} must not be modified afterwards.
+     */
+    synchronized void requestSaveChanges(List<AddressBookMutation> mutations) {
+        requireNonNull(mutations);
+        pendingMutations.addAll(mutations);
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        if (scheduledSave == null) {
+            scheduledSave = executor.schedule(this::savePending, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookMutation> mutations;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            mutations = pendingMutations;
+            pendingAddressBook = null;
+            pendingMutations = new ArrayList<>();
+            scheduledSave = null;
+        }
+        if (addressBook == null && mutations.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+            }
+            if (!mutations.isEmpty()) {
+                storage.saveAddressBookChanges(mutations);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save the address book: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Saves the address book and mutations that have not been saved yet right away, and waits until it is written.
+     *
+     * @throws IOException if a save failed and the failure has not been taken yet. The failure is not taken.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Returns the failure of the latest failed save and forgets it, or null if no save failed since the last call.
+     */
+    synchronized IOException takeFailure() {
+        IOException saveFailure = failure;
+        failure = null;
+        return saveFailure;
+    }
+}
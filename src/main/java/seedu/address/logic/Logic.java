@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -24,6 +25,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the changes to the address book that have not been saved yet, and waits until they are written.
+     * @throws IOException If an error occurs while saving.
+     */
+    void flushPendingSaves() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
@@ -15,6 +16,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookMutation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
@@ -32,11 +34,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Marks that the address book has not been saved by this {@code LogicManager} yet. */
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** Saves the address book in the background, or null if it is saved before each command returns. */
+    private final BackgroundAddressBookSaver saver;
+
+    /** The version of the address book data that was last saved. */
+    private long savedAddressBookVersion = NOT_SAVED;
+    private long performedSaveCount = 0;
+    private long skippedSaveCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -44,14 +56,30 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.saver = null;
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * in the background, {@code saveDelayMillis} milliseconds after a command changes it.
+     * Commands then return as soon as the model is updated, and a failed save is reported by the next command.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
+        this.model = model;
+        this.storage = storage;
+        this.saver = new BackgroundAddressBookSaver(storage, saveDelayMillis);
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("initiating data validity scan before command execution");
-        List<Pair<EmployeeId, EmployeeId>> conflictingPairs = EmployeeIdPrefixValidationUtils
-                .getPrefixConflictingPairs(model.getFilteredEmployeeList());
+        // The tracked count of conflicts in the whole book rules out the scan of the displayed employees
+        // for the usual data file without any conflicts.
+        List<Pair<EmployeeId, EmployeeId>> conflictingPairs = !model.hasEmployeeIdPrefixConflicts()
+                ? List.of()
+                : EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(model.getFilteredEmployeeList());
         if (conflictingPairs.size() > 1) {
             CommandResult commandResult = new CommandResult(String.format(
                     "Data integrity error: Employee IDs have conflicting prefixes."
@@ -67,17 +95,96 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+        saveAddressBookIfChanged();
 
         return commandResult;
     }
 
+    /**
+     * Saves the address book, unless its data has not changed since it was last saved.
+     * The first command always saves the whole address book, so that the data file reflects the data the app
+     * started with. Later commands only save the mutations since the previous save, if the storage can save them.
+     * When saving in the background, this also reports a save that failed since the previous command.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        IOException backgroundFailure = saver == null ? null : saver.takeFailure();
+        if (backgroundFailure != null) {
+            // The failed data has to be saved again in full, even if it has not changed since.
+            savedAddressBookVersion = NOT_SAVED;
+        }
+
+        long version = model.getAddressBookVersion();
+        List<AddressBookMutation> mutations = model.takeUnsavedMutations();
+        if (version == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+        } else {
+            boolean isSavingChanges = savedAddressBookVersion != NOT_SAVED && storage.canSaveAddressBookChanges();
+            try {
+                if (saver != null) {
+                    if (isSavingChanges) {
+                        saver.requestSaveChanges(mutations);
+                    } else {
+                        saver.requestSave(snapshotOf(model.getAddressBook()));
+                    }
+                } else if (isSavingChanges) {
+                    storage.saveAddressBookChanges(mutations);
+                } else {
+                    storage.saveAddressBook(model.getAddressBook());
+                }
+            } catch (IOException ioe) {
+                // The mutations that failed to save have been taken, so only a full save can catch up.
+                savedAddressBookVersion = NOT_SAVED;
+                throw toCommandException(ioe);
+            }
+            savedAddressBookVersion = version;
+            performedSaveCount++;
+        }
+
+        if (backgroundFailure != null) {
+            throw toCommandException(backgroundFailure);
+        }
+    }
+
+    /**
+     * Returns an address book that holds the current employees of {@code addressBook}
+     * and is not affected by later changes to it.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Employee> employees = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getEmployeeList()));
+        return () -> employees;
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        if (saver != null) {
+            saver.flush();
+        }
+    }
+
+    /**
+     * Returns the number of times the address book has been saved after a command.
+     * When saving in the background, these are the saves requested, as several of them may be written together.
+     */
+    public long getPerformedSaveCount() {
+        return performedSaveCount;
+    }
+
+    /**
+     * Returns the number of times saving the address book was skipped because its data had not changed.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
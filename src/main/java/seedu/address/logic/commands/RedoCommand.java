@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Represents a command to redo the most recently undone operation in the address book.
+ * Undone operations can be redone until the address book is changed again.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo successful!";
+    public static final String MESSAGE_FAILURE = "No redo available!";
+
+    /**
+     * Executes the redo command to apply the most recently undone change to the address book again.
+     * If a redo operation is available, it will be executed. Otherwise, a failure message is returned.
+     *
+     * @param model The model containing the address book data.
+     * @return A CommandResult object indicating the result of the redo operation.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (model.canRedoAddressBook()) {
+            model.redoAddressBook();
+            return new CommandResult(MESSAGE_SUCCESS, true);
+        } else {
+            return new CommandResult(MESSAGE_FAILURE);
+        }
+    }
+
+}
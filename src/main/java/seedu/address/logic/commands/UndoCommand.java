@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 
 /**
  * Represents a command to undo the previous operation in the address book.
@@ -23,9 +22,8 @@ public class UndoCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ModelManager modelManager = (ModelManager) model;
-        if (modelManager.canUndoAddressBook()) {
-            modelManager.undoAddressBook();
+        if (model.canUndoAddressBook()) {
+            model.undoAddressBook();
             return new CommandResult(MESSAGE_SUCCESS, true);
         } else {
             return new CommandResult(MESSAGE_FAILURE);
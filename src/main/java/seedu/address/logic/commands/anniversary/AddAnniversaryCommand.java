@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE_DESC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -114,7 +113,7 @@ public class AddAnniversaryCommand extends Command {
 
         // update the model
         model.setEmployee(employeeToEdit, updatedEmployee);
-        boolean isAnniAfterToday = (toAdd.getDate().isAfter(LocalDate.now()));
+        boolean isAnniAfterToday = (toAdd.getDate().isAfter(model.getToday()));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)
                 + (isAnniAfterToday ? "\n" + MESSAGE_WARNING_ANNI_AFTER_TODAY : ""), true,
                 updatedEmployee.getEmployeeIdAsString());
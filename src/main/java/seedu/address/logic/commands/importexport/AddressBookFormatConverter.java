@@ -6,27 +6,32 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
-import seedu.address.storage.JsonCsvConverter;
+import seedu.address.storage.CsvEmployeeReader;
+import seedu.address.storage.CsvEmployeeWriter;
 import seedu.address.storage.JsonSerializableAddressBook;
-import seedu.address.storage.QueryValidator;
+import seedu.address.storage.NdjsonEmployeeReader;
+import seedu.address.storage.NdjsonEmployeeWriter;
 
 /**
- * Utility for converting between different AddressBook formats (JSON, CSV).
+ * Utility for converting between different AddressBook formats (JSON, CSV, NDJSON).
  */
 public class AddressBookFormatConverter {
     private static final Path DEFAULT_EXPORT_PATH = Paths.get("./output");
     private static final String DEFAULT_JSON_FILENAME = "output.json";
     private static final String DEFAULT_CSV_FILENAME = "output.csv";
+    private static final String DEFAULT_NDJSON_FILENAME = "output.ndjson";
     private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
 
     // Private constructor to prevent instantiation
@@ -55,21 +60,29 @@ public class AddressBookFormatConverter {
     }
 
     /**
-     * Exports the displayed people to CSV format.
+     * Exports the displayed people to CSV format, writing each row as soon as it is formatted.
      */
     public static void exportToCsv(ObservableList<Employee> displayedPeople, Path filePath) throws IOException {
         requireNonNull(displayedPeople);
 
-        ReadOnlyAddressBook tempAddressBook = createTempAddressBook(displayedPeople);
-        JsonSerializableAddressBook jsonData = new JsonSerializableAddressBook(tempAddressBook);
+        Path outputPath = (filePath != null) ? filePath : DEFAULT_EXPORT_PATH.resolve(DEFAULT_CSV_FILENAME);
+        FileUtil.createParentDirsOfFile(outputPath);
+        CsvEmployeeWriter.writeEmployees(displayedPeople, outputPath);
+        logger.info("Exported to " + outputPath);
+    }
 
-        String csvData = addressBookToCsv(jsonData);
+    /**
+     * Exports the displayed people to NDJSON format, writing each employee as soon as it is converted.
+     */
+    public static void exportToNdjson(ObservableList<Employee> displayedPeople, Path filePath) throws IOException {
+        requireNonNull(displayedPeople);
 
-        Path outputPath = (filePath != null) ? filePath : DEFAULT_EXPORT_PATH.resolve(DEFAULT_CSV_FILENAME);
+        Path outputPath = (filePath != null) ? filePath : DEFAULT_EXPORT_PATH.resolve(DEFAULT_NDJSON_FILENAME);
         FileUtil.createParentDirsOfFile(outputPath);
-        Files.writeString(outputPath, csvData);
+        NdjsonEmployeeWriter.writeEmployees(displayedPeople, outputPath);
         logger.info("Exported to " + outputPath);
     }
+
     /**
      * Imports JSON data from a file and converts it to a JsonSerializableAddressBook.
      */
@@ -89,30 +102,20 @@ public class AddressBookFormatConverter {
     }
     //@@author WailyDest
     /**
-     * Imports CSV data from a file and converts it to a JsonSerializableAddressBook.
+     * Imports the employees in a CSV file, merging the rows of each employee as they are read.
      */
-    public static JsonSerializableAddressBook importFromCsv(Path filePath) throws IOException, CommandException {
+    public static List<Employee> importFromCsv(Path filePath)
+            throws IOException, CommandException, IllegalValueException {
         requireNonNull(filePath);
-        String csvData = Files.readString(filePath);
-        return csvToAddressBook(csvData);
-    }
-    /**
-     * Converts a CSV string to a JsonSerializableAddressBook.
-     */
-    public static JsonSerializableAddressBook csvToAddressBook(String csvData) throws IOException, CommandException {
-        requireNonNull(csvData);
-        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(JsonUtil.getObjectMapper(), new QueryValidator());
-        JsonSerializableAddressBook addressBook = jsonCsvConverter
-                .fromCsv(csvData, JsonSerializableAddressBook.class);
-        return addressBook.aggregatePersons();
+        return CsvEmployeeReader.readEmployees(filePath);
     }
 
     /**
-     * Converts a JsonSerializableAddressBook to a CSV string.
+     * Imports the employees in an NDJSON file, converting each line as it is read.
      */
-    public static String addressBookToCsv(JsonSerializableAddressBook addressBook) throws IOException {
-        requireNonNull(addressBook);
-        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(JsonUtil.getObjectMapper(), new QueryValidator());
-        return jsonCsvConverter.toCsv(addressBook);
+    public static List<Employee> importFromNdjson(Path filePath)
+            throws IOException, CommandException, IllegalValueException {
+        requireNonNull(filePath);
+        return NdjsonEmployeeReader.readEmployees(filePath);
     }
 }
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.importexport;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * The employees of an import file, with the records of each employee ID combined in a single pass.
+ *
+ * Records of the same employee ID with the same details are merged into one employee holding the anniversaries
+ * of all of them. If the records of an employee ID differ in their details, none of them is imported,
+ * and all of them are reported as conflicts.
+ */
+final class AggregatedImport {
+
+    /** The combined employees, in the order in which their employee IDs first appear. */
+    final List<Employee> employees;
+    /** The records of the employee IDs whose records differ in their details, in file order. */
+    final List<Employee> conflicts;
+
+    private AggregatedImport(List<Employee> employees, List<Employee> conflicts) {
+        this.employees = employees;
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * Combines the records of each employee ID in {@code imported}.
+     */
+    static AggregatedImport of(List<Employee> imported) {
+        requireNonNull(imported);
+        Map<EmployeeId, Employee> aggregated = new LinkedHashMap<>();
+        Set<EmployeeId> conflictEmployeeIds = new HashSet<>();
+        for (Employee employee : imported) {
+            EmployeeId employeeId = employee.getEmployeeId();
+            if (conflictEmployeeIds.contains(employeeId)) {
+                continue;
+            }
+            Employee existing = aggregated.get(employeeId);
+            if (existing == null) {
+                aggregated.put(employeeId, employee);
+            } else if (existing.hasSameDetails(employee)) {
+                aggregated.put(employeeId, withMergedAnniversaries(existing, employee));
+            } else {
+                conflictEmployeeIds.add(employeeId);
+                aggregated.remove(employeeId);
+            }
+        }
+
+        List<Employee> conflicts = new ArrayList<>();
+        if (!conflictEmployeeIds.isEmpty()) {
+            for (Employee employee : imported) {
+                if (conflictEmployeeIds.contains(employee.getEmployeeId())) {
+                    conflicts.add(employee);
+                }
+            }
+        }
+        return new AggregatedImport(new ArrayList<>(aggregated.values()), conflicts);
+    }
+
+    /**
+     * Returns {@code target} with the anniversaries of {@code source} that it does not have yet appended,
+     * or {@code target} itself if it has all of them. Neither employee is modified.
+     */
+    static Employee withMergedAnniversaries(Employee target, Employee source) {
+        Set<Anniversary> anniversaries = new LinkedHashSet<>(target.getAnniversaries());
+        if (!anniversaries.addAll(source.getAnniversaries())) {
+            return target;
+        }
+        return new Employee(target.getEmployeeId(), target.getName(), target.getPhone(), target.getEmail(),
+                target.getJobPosition(), target.getTags(), new ArrayList<>(anniversaries));
+    }
+}
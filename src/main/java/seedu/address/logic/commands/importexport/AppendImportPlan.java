@@ -0,0 +1,94 @@
+package seedu.address.logic.commands.importexport;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.util.Pair;
+import seedu.address.model.Model;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.UniqueEmployeeList;
+
+/**
+ * The changes that appending imported employees makes to the address book of a model.
+ *
+ * The address book is indexed by employee ID once, and each imported employee is then classified in a single pass:
+ * an employee with a new employee ID is added, unless its ID clashes by prefix with an existing or added employee;
+ * an employee with the same details as the existing employee of its ID has its new anniversaries merged into it,
+ * or is left unchanged if there are none; and an employee with different details from the existing one conflicts.
+ * Prefix clashes are looked up in the sorted employee ID indexes of the address book and of the added employees.
+ */
+final class AppendImportPlan {
+
+    /** The employees to add, in import order. */
+    final List<Employee> added = new ArrayList<>();
+    /** The existing employees to replace, each paired with its replacement with merged anniversaries. */
+    final List<Pair<Employee, Employee>> merged = new ArrayList<>();
+    /** The imported employees whose existing employee already has all of their anniversaries. */
+    final List<Employee> unchanged = new ArrayList<>();
+    /** The imported employees whose details differ from the existing employee of their employee ID. */
+    final List<Employee> conflicting = new ArrayList<>();
+    /** The imported employees whose new employee ID clashes by prefix with an existing or added employee. */
+    final List<Employee> prefixClashing = new ArrayList<>();
+    /**
+     * The imported employees that are not imported: the conflicts within the import file,
+     * followed by the conflicting and prefix clashing employees in import order.
+     */
+    final List<Employee> skipped = new ArrayList<>();
+
+    private AppendImportPlan() {}
+
+    /**
+     * Classifies the employees of {@code imported} against the address book of {@code model}.
+     * The model is not modified.
+     */
+    static AppendImportPlan of(AggregatedImport imported, Model model) {
+        requireAllNonNull(imported, model);
+        AppendImportPlan plan = new AppendImportPlan();
+        plan.skipped.addAll(imported.conflicts);
+
+        List<Employee> existingEmployees = model.getAddressBook().getEmployeeList();
+        Map<EmployeeId, Employee> existingById = new HashMap<>(existingEmployees.size() * 4 / 3 + 1);
+        for (Employee employee : existingEmployees) {
+            existingById.put(employee.getEmployeeId(), employee);
+        }
+        UniqueEmployeeList addedEmployees = new UniqueEmployeeList();
+
+        for (Employee employee : imported.employees) {
+            EmployeeId employeeId = employee.getEmployeeId();
+            Employee existing = existingById.get(employeeId);
+            if (existing == null) {
+                if (model.hasEmployeeIdPrefixConflict(employeeId)
+                        || addedEmployees.hasEmployeeIdPrefixConflict(employeeId)) {
+                    plan.prefixClashing.add(employee);
+                    plan.skipped.add(employee);
+                } else {
+                    addedEmployees.add(employee);
+                    plan.added.add(employee);
+                }
+            } else if (existing.hasSameDetails(employee)) {
+                Employee mergedEmployee = AggregatedImport.withMergedAnniversaries(existing, employee);
+                if (mergedEmployee == existing) {
+                    plan.unchanged.add(employee);
+                } else {
+                    plan.merged.add(new Pair<>(existing, mergedEmployee));
+                }
+            } else {
+                plan.conflicting.add(employee);
+                plan.skipped.add(employee);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the number of imported employees that are added, merged or already in the address book.
+     */
+    int getImportedCount() {
+        return added.size() + merged.size() + unchanged.size();
+    }
+}
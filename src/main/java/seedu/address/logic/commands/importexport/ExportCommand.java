@@ -23,7 +23,7 @@ import seedu.address.model.person.Employee;
 public class ExportCommand extends Command {
     public static final String COMMAND_WORD = "export";
     public static final String MESSAGE_USAGE = "export "
-            + PREFIX_FILETYPE + "<json / csv> ["
+            + PREFIX_FILETYPE + "<json / csv / ndjson> ["
             + PREFIX_FILENAME + "<fileName>] ["
             + PREFIX_FILEPATH + "<path>]";
     private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
@@ -32,7 +32,7 @@ public class ExportCommand extends Command {
 
     /**
      * Creates an ExportCommand to export the specified {@code Employee}
-     * @param filetype json or csv source file
+     * @param filetype json, csv or ndjson source file
      * @param path path to the file
      */
     public ExportCommand(String filetype, Path path) {
@@ -52,6 +52,9 @@ public class ExportCommand extends Command {
             } else if (filetype.equals("csv")) {
                 logger.info(String.format("Exporting to CSV + %s, %s", path , displayedPeople));
                 AddressBookFormatConverter.exportToCsv(displayedPeople, path);
+            } else if (filetype.equals("ndjson")) {
+                logger.info(String.format("Exporting to NDJSON + %s, %s", path , displayedPeople));
+                AddressBookFormatConverter.exportToNdjson(displayedPeople, path);
             } else {
                 throw new CommandException("Invalid filetype. " + MESSAGE_USAGE);
             }
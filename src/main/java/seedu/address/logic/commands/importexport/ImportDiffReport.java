@@ -0,0 +1,122 @@
+package seedu.address.logic.commands.importexport;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.util.Pair;
+import seedu.address.model.Model;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
+
+/**
+ * A summary of the changes an import would make to the address book, reported by a dry run of the import.
+ * Each kind of change is listed with the number of employees it applies to and a few of them as samples,
+ * so the report stays short however large the import is.
+ */
+final class ImportDiffReport {
+
+    static final String MESSAGE_DRY_RUN = "Dry run of %s import: the address book was not changed.";
+    static final String MESSAGE_OVERWRITE_WOULD_FAIL = "Overwriting would fail until the conflicting and "
+            + "prefix clashing records are resolved.";
+    static final int SAMPLE_SIZE = 3;
+
+    private final List<String> lines = new ArrayList<>();
+
+    private ImportDiffReport(String mode) {
+        lines.add(String.format(MESSAGE_DRY_RUN, mode));
+    }
+
+    /**
+     * Returns the report of appending {@code imported}, as planned by {@code plan}.
+     */
+    static ImportDiffReport ofAppend(AggregatedImport imported, AppendImportPlan plan) {
+        requireAllNonNull(imported, plan);
+        List<Employee> conflicting = new ArrayList<>(imported.conflicts);
+        conflicting.addAll(plan.conflicting);
+
+        ImportDiffReport report = new ImportDiffReport("append");
+        report.addLine("Added", plan.added);
+        report.addLine("Unchanged", plan.unchanged);
+        report.addLine("Merged anniversaries", plan.merged.stream().map(Pair::getValue).toList());
+        report.addLine("Conflicting", conflicting);
+        report.addLine("Prefix clashing", plan.prefixClashing);
+        return report;
+    }
+
+    /**
+     * Returns the report of replacing the address book of {@code model} with {@code imported}.
+     * The model is not modified.
+     */
+    static ImportDiffReport ofOverwrite(AggregatedImport imported, Model model) {
+        requireAllNonNull(imported, model);
+        Map<EmployeeId, Employee> importedById = new HashMap<>(imported.employees.size() * 4 / 3 + 1);
+        imported.employees.forEach(employee -> importedById.put(employee.getEmployeeId(), employee));
+
+        List<Employee> added = new ArrayList<>();
+        List<Employee> unchanged = new ArrayList<>();
+        List<Employee> replaced = new ArrayList<>();
+        List<Employee> removed = new ArrayList<>();
+        Set<EmployeeId> existingIds = new LinkedHashSet<>();
+        for (Employee existing : model.getAddressBook().getEmployeeList()) {
+            existingIds.add(existing.getEmployeeId());
+            Employee employee = importedById.get(existing.getEmployeeId());
+            if (employee == null) {
+                removed.add(existing);
+            } else if (employee.equals(existing)) {
+                unchanged.add(employee);
+            } else {
+                replaced.add(employee);
+            }
+        }
+        for (Employee employee : imported.employees) {
+            if (!existingIds.contains(employee.getEmployeeId())) {
+                added.add(employee);
+            }
+        }
+
+        Set<Employee> prefixClashing = new LinkedHashSet<>();
+        for (Pair<EmployeeId, EmployeeId> pair
+                : EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(imported.employees)) {
+            prefixClashing.add(importedById.get(pair.getKey()));
+            prefixClashing.add(importedById.get(pair.getValue()));
+        }
+
+        ImportDiffReport report = new ImportDiffReport("overwrite");
+        report.addLine("Added", added);
+        report.addLine("Unchanged", unchanged);
+        report.addLine("Replaced", replaced);
+        report.addLine("Removed", removed);
+        report.addLine("Conflicting", imported.conflicts);
+        report.addLine("Prefix clashing", new ArrayList<>(prefixClashing));
+        if (!imported.conflicts.isEmpty() || !prefixClashing.isEmpty()) {
+            report.lines.add(MESSAGE_OVERWRITE_WOULD_FAIL);
+        }
+        return report;
+    }
+
+    private void addLine(String label, List<Employee> employees) {
+        String line = label + ": " + employees.size();
+        if (!employees.isEmpty()) {
+            line += employees.stream()
+                    .limit(SAMPLE_SIZE)
+                    .map(employee -> employee.getName() + " (" + employee.getEmployeeId() + ")")
+                    .collect(Collectors.joining(", ", " e.g. ", employees.size() > SAMPLE_SIZE ? ", ..." : ""));
+        }
+        lines.add(line);
+    }
+
+    /**
+     * Returns the report as a message for the user.
+     */
+    String format() {
+        return String.join("\n", lines);
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ReminderCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.anniversary.AddAnniversaryCommand;
@@ -90,6 +91,9 @@ public class AddressBookParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case AddAnniversaryCommand.COMMAND_WORD:
             return new AddAnniversaryCommandParser().parse(arguments);
 
@@ -102,7 +102,7 @@ public class FilePathResolverUtils {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, commandType));
         }
         String fileTypeValue = argMultimap.getValue(PREFIX_FILETYPE).orElse(BLANK);
-        if (!fileTypeValue.equals("json") && !fileTypeValue.equals("csv")) {
+        if (!fileTypeValue.equals("json") && !fileTypeValue.equals("csv") && !fileTypeValue.equals("ndjson")) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, commandType));
         }
     }
@@ -20,11 +20,17 @@ public class ImportCommandParser implements Parser<ImportCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
      * and returns a ImportCommand object for execution.
+     * A trailing {@code dry-run} makes the command only report the changes the import would make.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.stripTrailing();
+        boolean isDryRun = trimmedArgs.endsWith(" " + ImportCommand.DRY_RUN_KEYWORD);
+        if (isDryRun) {
+            trimmedArgs = trimmedArgs.substring(0, trimmedArgs.length() - ImportCommand.DRY_RUN_KEYWORD.length());
+        }
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args,
+                trimmedArgs,
                 PREFIX_FILEPATH,
                 PREFIX_FILETYPE,
                 PREFIX_FILENAME,
@@ -40,7 +46,7 @@ public class ImportCommandParser implements Parser<ImportCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WRITE_MODE_MESSAGE));
         }
         Path path = FilePathResolverUtils.resolveFilePath(filePath, filename, fileType);
-        return new ImportCommand(fileType, path, writeMode);
+        return new ImportCommand(fileType, path, writeMode, isDryRun);
     }
 
     private static boolean isValidWriteMode(ArgumentMultimap argMultimap) {
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
@@ -97,6 +98,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         return employees.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    /**
+     * Returns true if some employee ID in the address book is a prefix of another one.
+     */
+    public boolean hasEmployeeIdPrefixConflicts() {
+        return employees.hasPrefixConflicts();
+    }
+
+    /**
+     * Returns all pairs of employee IDs in the address book where one is a prefix of the other.
+     */
+    public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+        return employees.getPrefixConflictingPairs();
+    }
+
+    /**
+     * Returns the employees whose employee ID starts with {@code employeeIdPrefix}.
+     */
+    public List<Employee> getEmployeesWithIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.getEmployeesWithIdPrefix(employeeIdPrefix);
+    }
+
     /**
      * Adds a employee to the address book.
      * The employee must not already exist in the address book.
@@ -105,6 +128,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         employees.add(p);
     }
 
+    /**
+     * Inserts a employee into the address book at position {@code index} of the employee list.
+     * The employee must not already exist in the address book.
+     */
+    public void addPerson(int index, Employee p) {
+        employees.add(index, p);
+    }
+
+    /**
+     * Returns the position of {@code employee} in the employee list, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Employee employee) {
+        return employees.indexOf(employee);
+    }
+
     /**
      * Replaces the given employee {@code target} in the list with {@code editedEmployee}.
      * {@code target} must exist in the address book.
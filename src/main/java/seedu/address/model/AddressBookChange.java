@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.person.Employee;
+
+/**
+ * A single mutation of the address book, recorded with both its forward and inverse mutation
+ * so that it can be undone and redone later.
+ * Only the employees involved are kept, and they are shared with the address book rather than copied.
+ */
+abstract class AddressBookChange {
+
+    /**
+     * The mutations a change is applied and reverted through.
+     */
+    interface Target {
+        void addEmployee(int index, Employee employee);
+
+        void setEmployee(Employee target, Employee editedEmployee);
+
+        void deleteEmployee(Employee employee);
+
+        void setEmployees(List<Employee> employees);
+    }
+
+    /**
+     * Applies this change on {@code target}, which must be in the state right before the change.
+     */
+    abstract void apply(Target target);
+
+    /**
+     * Reverts this change on {@code target}, which must be in the state right after the change.
+     */
+    abstract void revert(Target target);
+
+    /**
+     * Returns a change recording that {@code employee} was added at position {@code index}.
+     */
+    static AddressBookChange add(int index, Employee employee) {
+        requireNonNull(employee);
+        return new AddressBookChange() {
+            @Override
+            void apply(Target target) {
+                target.addEmployee(index, employee);
+            }
+
+            @Override
+            void revert(Target target) {
+                target.deleteEmployee(employee);
+            }
+        };
+    }
+
+    /**
+     * Returns a change recording that {@code before} was replaced by {@code after}.
+     */
+    static AddressBookChange set(Employee before, Employee after) {
+        requireAllNonNull(before, after);
+        return new AddressBookChange() {
+            @Override
+            void apply(Target target) {
+                target.setEmployee(before, after);
+            }
+
+            @Override
+            void revert(Target target) {
+                target.setEmployee(after, before);
+            }
+        };
+    }
+
+    /**
+     * Returns a change recording that {@code employee} was removed from position {@code index}.
+     */
+    static AddressBookChange delete(int index, Employee employee) {
+        requireNonNull(employee);
+        return new AddressBookChange() {
+            @Override
+            void apply(Target target) {
+                target.deleteEmployee(employee);
+            }
+
+            @Override
+            void revert(Target target) {
+                target.addEmployee(index, employee);
+            }
+        };
+    }
+
+    /**
+     * Returns a change recording that all employees {@code before} were replaced by the employees {@code after}.
+     */
+    static AddressBookChange reset(List<Employee> before, List<Employee> after) {
+        requireAllNonNull(before, after);
+        return new AddressBookChange() {
+            @Override
+            void apply(Target target) {
+                target.setEmployees(after);
+            }
+
+            @Override
+            void revert(Target target) {
+                target.setEmployees(before);
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The undo and redo history of an address book, kept as a log of changes rather than as snapshots.
+ *
+ * Each commit starts a new entry, and every change made after it is recorded in that entry, so undoing
+ * an entry restores the address book to its state at the commit. An entry only holds the changed employees,
+ * so a commit costs O(changed records) in time and memory. The oldest entries are dropped once there are
+ * more than the configured limit.
+ *
+ * Undone entries can be redone until a new change is recorded, which discards them.
+ */
+class AddressBookHistory {
+
+    /** Entries that can be undone, from the most recent to the oldest. */
+    private final Deque<List<AddressBookChange>> entries = new ArrayDeque<>();
+    /** Entries that can be redone, from the most recently undone to the earliest undone. */
+    private final Deque<List<AddressBookChange>> undoneEntries = new ArrayDeque<>();
+
+    /**
+     * Starts a new entry, dropping the oldest entries so that at most {@code limit} are kept.
+     * If the most recent entry has no changes yet, it is reused instead.
+     */
+    void commit(int limit) {
+        if (entries.isEmpty() || !entries.peekFirst().isEmpty()) {
+            entries.addFirst(new ArrayList<>());
+        }
+        while (entries.size() > Math.max(limit, 0)) {
+            entries.removeLast();
+        }
+    }
+
+    /**
+     * Records {@code change} in the most recent entry and discards the entries that could be redone.
+     * Changes made before the first commit are not recorded.
+     */
+    void record(AddressBookChange change) {
+        requireNonNull(change);
+        undoneEntries.clear();
+        if (!entries.isEmpty()) {
+            entries.peekFirst().add(change);
+        }
+    }
+
+    boolean canUndo() {
+        return !entries.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !undoneEntries.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the most recent entry on {@code target}, in reverse order,
+     * and keeps the entry so that it can be redone.
+     */
+    void undo(AddressBookChange.Target target) {
+        requireNonNull(target);
+        if (!canUndo()) {
+            return;
+        }
+        List<AddressBookChange> changes = entries.removeFirst();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(target);
+        }
+        undoneEntries.addFirst(changes);
+    }
+
+    /**
+     * Applies the changes of the most recently undone entry on {@code target} again, in their original order.
+     */
+    void redo(AddressBookChange.Target target) {
+        requireNonNull(target);
+        if (!canRedo()) {
+            return;
+        }
+        List<AddressBookChange> changes = undoneEntries.removeFirst();
+        changes.forEach(change -> change.apply(target));
+        entries.addFirst(changes);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+import seedu.address.model.person.Employee;
+
+/**
+ * A single mutation of the address book, as reported by {@link Model#takeUnsavedMutations()}.
+ * Storages that keep a journal save these instead of the whole address book.
+ * The employees involved are shared with the address book rather than copied.
+ */
+@Getter
+@ToString
+public final class AddressBookMutation {
+
+    /**
+     * The kinds of mutations.
+     */
+    public enum Kind {
+        /** {@code employee} was added at position {@code index}. */
+        ADD,
+        /** {@code replacedEmployee} was replaced by {@code employee}. */
+        SET,
+        /** {@code employee} was removed. */
+        REMOVE,
+        /** All employees were replaced by {@code employees}. */
+        RESET
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Employee employee;
+    private final Employee replacedEmployee;
+    private final List<Employee> employees;
+
+    private AddressBookMutation(Kind kind, int index, Employee employee, Employee replacedEmployee,
+                                List<Employee> employees) {
+        this.kind = kind;
+        this.index = index;
+        this.employee = employee;
+        this.replacedEmployee = replacedEmployee;
+        this.employees = employees;
+    }
+
+    /**
+     * Returns a mutation recording that {@code employee} was added at position {@code index}.
+     */
+    public static AddressBookMutation add(int index, Employee employee) {
+        requireNonNull(employee);
+        return new AddressBookMutation(Kind.ADD, index, employee, null, null);
+    }
+
+    /**
+     * Returns a mutation recording that {@code replacedEmployee} was replaced by {@code employee}.
+     */
+    public static AddressBookMutation set(Employee replacedEmployee, Employee employee) {
+        requireAllNonNull(replacedEmployee, employee);
+        return new AddressBookMutation(Kind.SET, -1, employee, replacedEmployee, null);
+    }
+
+    /**
+     * Returns a mutation recording that {@code employee} was removed.
+     */
+    public static AddressBookMutation remove(Employee employee) {
+        requireNonNull(employee);
+        return new AddressBookMutation(Kind.REMOVE, -1, employee, null, null);
+    }
+
+    /**
+     * Returns a mutation recording that all employees were replaced by {@code employees}.
+     * {@code employees} must not be modified afterwards.
+     */
+    public static AddressBookMutation reset(List<Employee> employees) {
+        requireNonNull(employees);
+        return new AddressBookMutation(Kind.RESET, -1, null, null, Collections.unmodifiableList(employees));
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
@@ -87,6 +89,23 @@ public interface Model {
      */
     boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore);
 
+    /**
+     * Returns the current date according to the clock of this model.
+     */
+    LocalDate getToday();
+
+    /**
+     * Returns true if some employee ID in the address book is a prefix of another employee ID.
+     * This is kept up to date as employees are added, edited and removed, so it is cheap to call.
+     */
+    boolean hasEmployeeIdPrefixConflicts();
+
+    /**
+     * Returns all pairs of employee IDs in the address book where one is a prefix of the other.
+     * This is a full audit of the address book.
+     */
+    List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs();
+
     /**
      * Adds the given employee.
      * {@code employee} must not already exist in the address book.
@@ -101,6 +120,16 @@ public interface Model {
      */
     void setEmployee(Employee target, Employee editedEmployee);
 
+    /**
+     * Replaces the key of each pair in {@code editedEmployees} with its value, then adds {@code employeesToAdd}
+     * after the existing employees, as a single change to the address book.
+     * The employee list, reminders and undo history are updated once for the whole change rather than once per
+     * employee, so this is much faster than the equivalent {@link #setEmployee} and {@link #addEmployee} calls.
+     * The key of each pair must exist in the address book. No employee is changed if the employees after the
+     * change would not be unique.
+     */
+    void setAndAddEmployees(List<Pair<Employee, Employee>> editedEmployees, List<Employee> employeesToAdd);
+
     /** Returns an unmodifiable view of the filtered employee list */
     ObservableList<Employee> getFilteredEmployeeList();
 
@@ -112,7 +141,8 @@ public interface Model {
 
     /**
      * Returns a List of the filtered employee list that contains only employees with id starting with
-     * the provided EmployeeId, from the full data
+     * the provided EmployeeId, from the full data.
+     * The returned list is a read-only snapshot and does not track later changes to the address book.
      */
     List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix);
 
@@ -124,6 +154,39 @@ public interface Model {
 
     void commitChanges();
 
+    /**
+     * Returns the version of the address book data.
+     * The version changes whenever employees are added, edited or deleted, or the address book is replaced,
+     * so two equal versions mean that the data has not changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the mutations of the address book data, in order, since this method was last called, and forgets them.
+     * A reset of all employees supersedes the mutations before it, which are then left out.
+     */
+    List<AddressBookMutation> takeUnsavedMutations();
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Reverts the address book to its state at the most recent commit.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Applies the most recently undone changes to the address book again.
+     */
+    void redoAddressBook();
+
     ObservableList<Reminder> getReminderList();
 
     void updateReminderList();
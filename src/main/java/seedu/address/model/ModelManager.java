@@ -4,9 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -16,12 +16,17 @@ import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.exceptions.EmployeeNotFoundException;
+import seedu.address.model.reminder.AnniversaryCalendar;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderList;
+import seedu.address.model.util.ModelClock;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -30,21 +35,43 @@ public class ModelManager implements Model {
 
     /** The number of days ahead to include in reminder listings. */
     private static final int REMINDED_DATE_RANGE = 3;
+    /** The number of unsaved mutations past which they are collapsed into a reset of all employees. */
+    private static final int MAX_UNSAVED_MUTATIONS = 1024;
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Employee> filteredEmployees;
-    private int currentStatePointer = 0;
-    private List<AddressBook> addressBookStates = new ArrayList<>();
-
-    private final ObservableList<Reminder> reminderList = FXCollections.observableArrayList();
+    private final AddressBookHistory history = new AddressBookHistory();
+    private final AddressBookChange.Target historyTarget = new HistoryTarget();
+
+    private final ReminderList reminderList = new ReminderList();
+    private final ObservableList<Reminder> unmodifiableReminderList =
+            FXCollections.unmodifiableObservableList(reminderList);
+    private final AnniversaryCalendar anniversaryCalendar = new AnniversaryCalendar();
+    private final ModelClock clock;
+    /** Incremented on every change to the address book data. */
+    private long addressBookVersion = 0;
+    /** The mutations of the address book data since they were last taken. */
+    private List<AddressBookMutation> unsavedMutations = new ArrayList<>();
+    /** The date the reminders in {@code reminderList} were computed for. */
+    private LocalDate reminderListDate;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs,
+     * reading the current date from the system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs,
+     * reading the current date for all date computations in the model from {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
+        this.clock = new ModelClock(clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -52,6 +79,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredEmployees = new FilteredList<>(this.addressBook.getEmployeeList());
+        anniversaryCalendar.setAll(this.addressBook.getEmployeeList());
+        updateReminderList();
 
         // Apply default filtering
         filteredEmployees.setPredicate(employee -> true);
@@ -61,6 +90,7 @@ public class ModelManager implements Model {
         this(new AddressBook(), new UserPrefs());
     }
 
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -100,7 +130,11 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        requireNonNull(addressBook);
+        List<Employee> before = new ArrayList<>(this.addressBook.getEmployeeList());
+        List<Employee> after = new ArrayList<>(addressBook.getEmployeeList());
+        resetEmployees(after);
+        history.record(AddressBookChange.reset(before, after));
     }
 
     @Override
@@ -109,31 +143,53 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Updates the reminder list by scanning all persons in the address book and collecting
-     * upcoming anniversaries within a specified range (e.g. 3 days).
+     * Updates the reminder list by collecting upcoming anniversaries within a specified range (e.g. 3 days).
+     * Only the anniversaries recurring on the days in range are looked up, through the anniversary calendar.
      *
      * Each upcoming anniversary is converted into a {@link seedu.address.model.reminder.Reminder}
-     * and added to the internal reminder list. The list is sorted chronologically.
+     * and the internal reminder list is replaced with them in a single change. The list is sorted chronologically.
      */
     @Override
     public void updateReminderList() {
-        reminderList.clear();
-        addressBook.getEmployeeList().stream()
-                .map(this::extractRemindersFromPerson)
-                .flatMap(List::stream)
+        LocalDate today = clock.today();
+        reminderList.setAll(anniversaryCalendar.getAnniversariesWithin(today, REMINDED_DATE_RANGE)
+                .stream()
+                .map(entry -> toReminderIfWithinRange(entry.getKey(), entry.getValue(), REMINDED_DATE_RANGE, today))
+                .flatMap(Optional::stream)
                 .sorted()
-                .forEach(reminderList::add);
+                .toList());
+        reminderListDate = today;
+    }
+
+    /**
+     * Replaces the reminders of {@code target} in the reminder list with those of {@code editedEmployee},
+     * leaving the reminders of all other employees untouched.
+     * If the date has changed since the reminders were computed, all of them are recomputed instead.
+     *
+     * @param editedEmployee The employee replacing {@code target}, or {@code null} if it was removed.
+     */
+    private void updateRemindersOf(Employee target, Employee editedEmployee) {
+        LocalDate today = clock.today();
+        if (!today.equals(reminderListDate)) {
+            updateReminderList();
+            return;
+        }
+        List<Reminder> newReminders = editedEmployee == null
+                ? List.of()
+                : extractRemindersFromPerson(editedEmployee, today).stream().sorted().toList();
+        reminderList.replaceRemindersOf(target, newReminders);
     }
 
     /**
      * Extracts all upcoming anniversary reminders for a given person.
      *
      * @param employee The person to check for upcoming anniversaries.
+     * @param today The date to look ahead from.
      * @return A list of {@link Reminder} objects, one for each upcoming anniversary within range.
      */
-    private List<Reminder> extractRemindersFromPerson(Employee employee) {
+    private List<Reminder> extractRemindersFromPerson(Employee employee, LocalDate today) {
         return employee.getAnniversaries().stream()
-                .map(anni -> toReminderIfWithinRange(employee, anni, REMINDED_DATE_RANGE))
+                .map(anni -> toReminderIfWithinRange(employee, anni, REMINDED_DATE_RANGE, today))
                 .flatMap(Optional::stream)
                 .toList();
     }
@@ -144,15 +200,17 @@ public class ModelManager implements Model {
      * @param employee The person the anniversary belongs to.
      * @param anniversary The anniversary to evaluate.
      * @param daysRange The max number of days ahead to include.
+     * @param today The date to look ahead from.
      * @return An Optional containing a Reminder if it qualifies, otherwise an empty Optional.
      */
-    private Optional<Reminder> toReminderIfWithinRange(Employee employee, Anniversary anniversary, int daysRange) {
-        LocalDate nextDate = getNextOccurrence(anniversary.getDate());
+    private Optional<Reminder> toReminderIfWithinRange(Employee employee, Anniversary anniversary, int daysRange,
+                                                       LocalDate today) {
+        LocalDate nextDate = getNextOccurrence(anniversary.getDate(), today);
         if (nextDate == null) {
             return Optional.empty();
         }
 
-        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), nextDate);
+        long daysLeft = nextDate.toEpochDay() - today.toEpochDay();
         if (daysLeft < 0 || daysLeft > daysRange) {
             return Optional.empty();
         }
@@ -161,7 +219,8 @@ public class ModelManager implements Model {
                 employee,
                 nextDate,
                 anniversary.getType(),
-                anniversary.getDescription()
+                anniversary.getDescription(),
+                today
         );
         return Optional.of(reminder);
     }
@@ -174,15 +233,14 @@ public class ModelManager implements Model {
      * If the date has already passed this year, it returns the same month/day next year.
      *
      * @param date The anniversary's original date to base the recurrence on
+     * @param today The date to find the next occurrence from
      * @return A {@link LocalDate} representing the next occurrence of the anniversary (preserving month and day) / null
      */
-    private LocalDate getNextOccurrence(LocalDate date) {
+    private LocalDate getNextOccurrence(LocalDate date, LocalDate today) {
         if (date == null) {
             return null;
         }
 
-        LocalDate today = LocalDate.now();
-
         // If the original date is in the future (compared to today), return it directly
         if (date.isAfter(today)) {
             return date;
@@ -221,7 +279,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Reminder> getReminderList() {
-        return FXCollections.unmodifiableObservableList(reminderList);
+        return unmodifiableReminderList;
     }
 
     @Override
@@ -242,6 +300,21 @@ public class ModelManager implements Model {
         return addressBook.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    @Override
+    public LocalDate getToday() {
+        return clock.today();
+    }
+
+    @Override
+    public boolean hasEmployeeIdPrefixConflicts() {
+        return addressBook.hasEmployeeIdPrefixConflicts();
+    }
+
+    @Override
+    public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+        return addressBook.getEmployeeIdPrefixConflictingPairs();
+    }
+
     @Override
     public boolean hasDuplicateEmployeeDetails(Employee employee) {
         requireNonNull(employee);
@@ -250,24 +323,98 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEmployee(Employee target) {
-        addressBook.removePerson(target);
-        updateReminderList();
+        int index = addressBook.indexOfPerson(target);
+        removeEmployee(target);
+        history.record(AddressBookChange.delete(index, target));
     }
 
     @Override
     public void addEmployee(Employee employee) {
-        addressBook.addPerson(employee);
+        int index = addressBook.getEmployeeList().size();
+        insertEmployee(index, employee);
         updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
-        updateReminderList();
+        history.record(AddressBookChange.add(index, employee));
     }
 
     @Override
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
+        replaceEmployee(target, editedEmployee);
+        history.record(AddressBookChange.set(target, editedEmployee));
+    }
+
+    @Override
+    public void setAndAddEmployees(List<Pair<Employee, Employee>> editedEmployees, List<Employee> employeesToAdd) {
+        requireAllNonNull(editedEmployees, employeesToAdd);
+        if (editedEmployees.isEmpty() && employeesToAdd.isEmpty()) {
+            return;
+        }
+
+        List<Employee> before = new ArrayList<>(addressBook.getEmployeeList());
+        List<Employee> after = new ArrayList<>(before.size() + employeesToAdd.size());
+        after.addAll(before);
+        for (Pair<Employee, Employee> edit : editedEmployees) {
+            int index = addressBook.indexOfPerson(edit.getKey());
+            if (index == -1) {
+                throw new EmployeeNotFoundException();
+            }
+            after.set(index, requireNonNull(edit.getValue()));
+        }
+        after.addAll(employeesToAdd);
+
+        resetEmployees(after);
+        updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
+        history.record(AddressBookChange.reset(before, after));
+    }
+
+    /*
+     * The methods below mutate the address book and keep the anniversary calendar and reminders in sync,
+     * without recording the mutation in the undo history.
+     */
+
+    private void insertEmployee(int index, Employee employee) {
+        addressBook.addPerson(index, employee);
+        recordMutation(AddressBookMutation.add(index, employee));
+        anniversaryCalendar.add(employee);
+        updateRemindersOf(employee, employee);
+    }
+
+    private void replaceEmployee(Employee target, Employee editedEmployee) {
         addressBook.setPerson(target, editedEmployee);
+        recordMutation(AddressBookMutation.set(target, editedEmployee));
+        anniversaryCalendar.remove(target);
+        anniversaryCalendar.add(editedEmployee);
+        updateRemindersOf(target, editedEmployee);
+    }
+
+    private void removeEmployee(Employee target) {
+        addressBook.removePerson(target);
+        recordMutation(AddressBookMutation.remove(target));
+        anniversaryCalendar.remove(target);
+        updateRemindersOf(target, null);
+    }
+
+    private void resetEmployees(List<Employee> employees) {
+        addressBook.setEmployees(employees);
+        unsavedMutations.clear();
+        recordMutation(AddressBookMutation.reset(new ArrayList<>(addressBook.getEmployeeList())));
+        anniversaryCalendar.setAll(addressBook.getEmployeeList());
         updateReminderList();
     }
 
+    /**
+     * Records {@code mutation} of the address book data.
+     * Once too many mutations are left unsaved, they are collapsed into a reset to the current employees.
+     */
+    private void recordMutation(AddressBookMutation mutation) {
+        addressBookVersion++;
+        unsavedMutations.add(mutation);
+        if (unsavedMutations.size() > MAX_UNSAVED_MUTATIONS) {
+            unsavedMutations.clear();
+            unsavedMutations.add(AddressBookMutation.reset(new ArrayList<>(addressBook.getEmployeeList())));
+        }
+    }
+
     //=========== Filtered Employee List Accessors =============================================================
 
     /**
@@ -288,12 +435,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
+    public List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
         requireNonNull(employeeIdPrefix);
-        return new FilteredList<>(
-                addressBook.getEmployeeList(),
-                employee -> employeeIdPrefix.isPrefixOf(employee.getEmployeeId())
-        );
+        return addressBook.getEmployeesWithIdPrefix(employeeIdPrefix);
     }
 
     @Override
@@ -321,37 +465,50 @@ public class ModelManager implements Model {
 
     /**
      * Checks if the address book can be undone.
-     * This is determined by whether the current state pointer is greater than 0,
-     * indicating that there is at least one previous state to revert to.
+     * This is determined by whether there is a commit in the history to revert to.
      *
      * @return True if the address book has a previous state to undo, otherwise false.
      */
+    @Override
     public boolean canUndoAddressBook() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Undoes the most recent change to the address book.
-     * This reverts the address book to its previous state based on the current state pointer.
-     * The state pointer is decremented, and the address book is updated with the previous state.
-     *
-     * @throws IllegalStateException If no undo is available (i.e., no previous state exists).
+     * This reverts the changes recorded since the most recent commit, restoring the address book
+     * to its state at that commit.
      */
+    @Override
     public void undoAddressBook() {
-        if (canUndoAddressBook()) {
-            currentStatePointer--;
-            addressBook.resetData(addressBookStates.get(currentStatePointer));
-        }
+        history.undo(historyTarget);
+    }
+
+    /**
+     * Checks if an undone change to the address book can be redone.
+     * Undone changes can be redone until the address book is changed again.
+     */
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    /**
+     * Redoes the most recently undone change to the address book.
+     */
+    @Override
+    public void redoAddressBook() {
+        history.redo(historyTarget);
     }
 
     /**
      * Commits the current state of the address book to the history.
-     * This creates a new snapshot of the current address book and adds it to the list of address book states.
-     * The current state pointer is incremented to reflect the new committed state.
+     * Changes made from now on are recorded against this commit, so that they can be undone together.
+     * Recording such a change discards any undone changes that could still be redone.
+     * Only the {@link UserPrefs#getUndoHistoryLimit() configured number} of most recent commits is kept.
      */
     public void commitAddressBook() {
-        addressBookStates.add(new AddressBook(addressBook));
-        currentStatePointer++;
+        history.commit(userPrefs.getUndoHistoryLimit());
     }
 
     /**
@@ -363,4 +520,40 @@ public class ModelManager implements Model {
         commitAddressBook();
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public List<AddressBookMutation> takeUnsavedMutations() {
+        List<AddressBookMutation> mutations = unsavedMutations;
+        unsavedMutations = new ArrayList<>();
+        return mutations;
+    }
+
+    /**
+     * Applies and reverts recorded changes without recording them again.
+     */
+    private class HistoryTarget implements AddressBookChange.Target {
+        @Override
+        public void addEmployee(int index, Employee employee) {
+            insertEmployee(index, employee);
+        }
+
+        @Override
+        public void setEmployee(Employee target, Employee editedEmployee) {
+            replaceEmployee(target, editedEmployee);
+        }
+
+        @Override
+        public void deleteEmployee(Employee employee) {
+            removeEmployee(employee);
+        }
+
+        @Override
+        public void setEmployees(List<Employee> employees) {
+            resetEmployees(employees);
+        }
+    }
 }
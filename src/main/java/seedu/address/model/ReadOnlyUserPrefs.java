@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getHreersDatafilePath();
 
+    int getUndoHistoryLimit();
+
+    long getSaveDelayMillis();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path hreersDatafilePath = Paths.get("data" , "Hreers.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setHreersDatafilePath(newUserPrefs.getHreersDatafilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.hreersDatafilePath = hreersDatafilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit must not be negative");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    /**
+     * Sets how long changes are collected after a command before the address book is saved.
+     */
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && hreersDatafilePath.equals(otherUserPrefs.hreersDatafilePath);
+                && hreersDatafilePath.equals(otherUserPrefs.hreersDatafilePath)
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, hreersDatafilePath);
+        return Objects.hash(guiSettings, hreersDatafilePath, undoHistoryLimit, saveDelayMillis);
     }
 
     @Override
@@ -82,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + hreersDatafilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
         return sb.toString();
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import lombok.EqualsAndHashCode;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Employee's employee ID in the address book
@@ -21,6 +22,9 @@ public class EmployeeId {
 
     public static final String VALIDATION_REGEX = "[a-zA-Z0-9-]{1,36}";
 
+    private static final int MIN_LENGTH = 1;
+    private static final int MAX_LENGTH = 36;
+
     public final String value;
 
     /**
@@ -48,9 +52,11 @@ public class EmployeeId {
 
     /**
      * Returns true if a given string is a valid employee ID.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but checked character by character without a regex.
      */
     public static boolean isValidEmployeeId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.hasOnlyCharacters(test, MIN_LENGTH, MAX_LENGTH,
+                c -> ValidationUtil.isAsciiLetterOrDigit(c) || c == '-');
     }
 
     /**
@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A sorted index of employees keyed by the value of their {@code EmployeeId}.
+ * All employee IDs that start with a given prefix are contiguous in sorted order, so a prefix lookup
+ * only visits the matching entries instead of scanning every employee.
+ *
+ * The index also keeps track of the "no employee ID is a prefix of another" invariant.
+ * If some ID is a prefix of another, then it is also a prefix of its immediate successor in sorted order,
+ * so it is enough to count the neighbouring pairs that conflict.
+ */
+class EmployeeIdPrefixIndex {
+
+    private final NavigableMap<String, Employee> employeesById = new TreeMap<>();
+    private int conflictingNeighbourCount = 0;
+
+    /**
+     * Adds {@code employee} to the index, replacing any employee indexed under the same employee ID.
+     */
+    void add(Employee employee) {
+        requireNonNull(employee);
+        String key = employee.getEmployeeId().value;
+        if (employeesById.put(key, employee) != null) {
+            return;
+        }
+        String lower = employeesById.lowerKey(key);
+        String higher = employeesById.higherKey(key);
+        conflictingNeighbourCount += conflictCount(lower, key) + conflictCount(key, higher)
+                - conflictCount(lower, higher);
+    }
+
+    /**
+     * Removes the employee indexed under the employee ID of {@code employee}, if any.
+     */
+    void remove(Employee employee) {
+        requireNonNull(employee);
+        String key = employee.getEmployeeId().value;
+        if (employeesById.remove(key) == null) {
+            return;
+        }
+        String lower = employeesById.lowerKey(key);
+        String higher = employeesById.higherKey(key);
+        conflictingNeighbourCount += conflictCount(lower, higher)
+                - conflictCount(lower, key) - conflictCount(key, higher);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code employees}.
+     */
+    void setAll(Collection<Employee> employees) {
+        requireNonNull(employees);
+        employeesById.clear();
+        conflictingNeighbourCount = 0;
+        employees.forEach(this::add);
+    }
+
+    /**
+     * Returns true if some indexed employee ID is a prefix of another indexed employee ID.
+     * Costs O(1).
+     */
+    boolean hasPrefixConflicts() {
+        return conflictingNeighbourCount > 0;
+    }
+
+    /**
+     * Returns true if {@code employeeId} is a prefix of an indexed employee ID or the other way round,
+     * ignoring the employee indexed under {@code toIgnore} if it is non-null.
+     * Costs O(length of {@code employeeId} * log n).
+     */
+    boolean hasPrefixConflict(EmployeeId employeeId, EmployeeId toIgnore) {
+        requireNonNull(employeeId);
+        String value = employeeId.value;
+        String ignoredValue = toIgnore == null ? null : toIgnore.value;
+
+        // some indexed ID is a prefix of (or equal to) the given ID
+        for (int length = 1; length <= value.length(); length++) {
+            String prefix = value.substring(0, length);
+            if (!prefix.equals(ignoredValue) && employeesById.containsKey(prefix)) {
+                return true;
+            }
+        }
+
+        // the given ID is a prefix of some indexed ID
+        for (String key : employeesById.tailMap(value, true).keySet()) {
+            if (!key.startsWith(value)) {
+                return false;
+            }
+            if (!key.equals(ignoredValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all indexed employee IDs in ascending order.
+     */
+    List<EmployeeId> getSortedEmployeeIds() {
+        List<EmployeeId> sortedIds = new ArrayList<>(employeesById.size());
+        employeesById.values().forEach(employee -> sortedIds.add(employee.getEmployeeId()));
+        return sortedIds;
+    }
+
+    /**
+     * Returns the employees whose employee ID starts with {@code employeeIdPrefix}, in employee ID order.
+     * Costs O(log n + number of matches).
+     */
+    List<Employee> getEmployeesWithIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        String prefix = employeeIdPrefix.value;
+        List<Employee> matches = new ArrayList<>();
+        for (Map.Entry<String, Employee> entry : employeesById.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns 1 if {@code lower} is a prefix of {@code higher}, 0 otherwise or if either key is absent.
+     * {@code lower} must sort before {@code higher}.
+     */
+    private static int conflictCount(String lower, String higher) {
+        return lower != null && higher != null && higher.startsWith(lower) ? 1 : 0;
+    }
+}
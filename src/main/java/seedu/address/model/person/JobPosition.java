@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Employee's job position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobPosition(String)}
@@ -18,6 +20,8 @@ public class JobPosition {
      */
     public static final String VALIDATION_REGEX = "^[\\p{L}\\p{N} .\\-']+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -26,16 +30,27 @@ public class JobPosition {
      * @param jobPosition A valid job position.
      */
     public JobPosition(String jobPosition) {
+        this(jobPosition, false);
+    }
+
+    private JobPosition(String jobPosition, boolean isTrusted) {
         requireNonNull(jobPosition);
-        checkArgument(isValidJobPosition(jobPosition), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidJobPosition(jobPosition), MESSAGE_CONSTRAINTS);
         value = jobPosition;
     }
 
+    /**
+     * Returns a {@code JobPosition} for a job position that is already known to be valid, without validating it again.
+     */
+    public static JobPosition fromTrusted(String jobPosition) {
+        return new JobPosition(jobPosition, true);
+    }
+
     /**
      * Returns true if a given string is a valid job position.
      */
     public static boolean isValidJobPosition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Employee's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,7 +14,10 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be from 3 to 17 digits long";
-    public static final String VALIDATION_REGEX = "\\d{3,}";
+    public static final String VALIDATION_REGEX = "\\d{3,17}";
+
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 17;
     public final String value;
 
     /**
@@ -21,16 +26,28 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} for a phone number that is already known to be valid, without validating it again.
+     */
+    public static Phone fromTrusted(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but checked character by character without a regex.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 17;
+        return ValidationUtil.hasOnlyCharacters(test, MIN_LENGTH, MAX_LENGTH, ValidationUtil::isAsciiDigit);
     }
 
     @Override
@@ -5,9 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -35,43 +40,49 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     private final ObservableList<Employee> internalList = FXCollections.observableArrayList();
     private final ObservableList<Employee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final EmployeeIdPrefixIndex prefixIndex = new EmployeeIdPrefixIndex();
+    /** Position of each employee in {@code internalList}, keyed by employee ID. */
+    private final Map<EmployeeId, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent employee as the given argument.
      */
     public boolean contains(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployee);
+        return positions.containsKey(toCheck.getEmployeeId());
     }
 
     /**
      * Sorts the list of persons by their next upcoming date (birthday or work anniversary).
      * - Persons with the nearest upcoming date will appear first.
      * - Persons without a birthday or anniversary will be placed at the end of the list.
+     *
+     * @param today The date to look ahead from.
      */
-    public void sortByUpcomingDate() {
+    public void sortByUpcomingDate(LocalDate today) {
         List<Employee> sortedList = internalList.stream()
                 .sorted(Comparator
-                        .comparing(Employee::getNextUpcomingDate,
+                        .comparing((Employee employee) -> employee.getNextUpcomingDate(today),
                                 Comparator.nullsLast(Comparator.naturalOrder()))
                 )
                 .collect(Collectors.toList());
 
         // Update the list after sorting
         internalList.setAll(sortedList);
+        reindexPositionsFrom(0);
     }
     /**
      * Calculates the number of days until the next occurrence of a birthday.
      *
      * @param birthday The date of the birthday.
+     * @param today The date to count from.
      * @return Number of days until the next birthday, or {@code null} if the birthday is {@code null}.
      */
-    private Integer daysUntilNextBirthday(LocalDate birthday) {
+    private Integer daysUntilNextBirthday(LocalDate birthday, LocalDate today) {
         if (birthday == null) {
             return null;
         }
 
-        LocalDate today = LocalDate.now();
         LocalDate nextBirthday = birthday.withYear(today.getYear());
 
         // If the birthday has already passed this year, adjust to next year
@@ -93,6 +104,22 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd.getEmployeeId(), internalList.size() - 1);
+        prefixIndex.add(toAdd);
+    }
+
+    /**
+     * Inserts a employee into the list at position {@code index}.
+     * The employee must not already exist in the list.
+     */
+    public void add(int index, Employee toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexPositionsFrom(index);
+        prefixIndex.add(toAdd);
     }
 
     /**
@@ -103,7 +130,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public void setPerson(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EmployeeNotFoundException();
         }
@@ -113,6 +140,10 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         }
 
         internalList.set(index, editedEmployee);
+        positions.remove(target.getEmployeeId());
+        positions.put(editedEmployee.getEmployeeId(), index);
+        prefixIndex.remove(target);
+        prefixIndex.add(editedEmployee);
     }
 
     /**
@@ -121,26 +152,69 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void remove(Employee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EmployeeNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getEmployeeId());
+        reindexPositionsFrom(index);
+        prefixIndex.remove(toRemove);
     }
 
     public void setPersons(UniqueEmployeeList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        prefixIndex.setAll(internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code employees}.
      * {@code employees} must not contain duplicate employees.
+     *
+     * @throws DuplicatePersonException listing every employee ID that appears more than once in {@code employees}.
      */
     public void setPersons(List<Employee> employees) {
         requireAllNonNull(employees);
-        if (!personsAreUnique(employees)) {
-            throw new DuplicatePersonException();
-        }
+        Map<EmployeeId, Integer> newPositions = indexUniquePositions(employees);
         internalList.setAll(employees);
+        positions.clear();
+        positions.putAll(newPositions);
+        prefixIndex.setAll(internalList);
+    }
+
+    /**
+     * Returns the position of the employee equal to {@code employee} in the list, or -1 if there is none.
+     * The position is looked up by employee ID, so only a single {@code Employee#equals} check is needed.
+     */
+    public int indexOf(Employee employee) {
+        requireNonNull(employee);
+        Integer index = positions.get(employee.getEmployeeId());
+        if (index == null || !internalList.get(index).equals(employee)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the positions of all employees from {@code fromIndex} onwards,
+     * after they have been shifted or replaced in {@code internalList}.
+     */
+    private void reindexPositionsFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getEmployeeId(), i);
+        }
+    }
+
+    /**
+     * Returns the employees whose employee ID starts with {@code employeeIdPrefix}.
+     * The lookup goes through a sorted employee ID index, so it only visits the matching employees.
+     */
+    public List<Employee> getEmployeesWithIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return prefixIndex.getEmployeesWithIdPrefix(employeeIdPrefix);
     }
 
     /**
@@ -152,7 +226,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
 
     @Override
     public Iterator<Employee> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -181,25 +255,42 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     }
 
     /**
-     * Returns true if {@code employees} contains only unique employees.
+     * Returns the position of each employee in {@code employees}, keyed by employee ID.
+     * Uniqueness is checked in the same single hashed pass.
+     *
+     * @throws DuplicatePersonException if {@code employees} does not contain only unique employees.
      */
-    private boolean personsAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).isSameEmployee(employees.get(j))) {
-                    return false;
-                }
+    private static Map<EmployeeId, Integer> indexUniquePositions(List<Employee> employees) {
+        Map<EmployeeId, Integer> newPositions = new HashMap<>(employees.size() * 4 / 3 + 1);
+        Set<EmployeeId> duplicateIds = new LinkedHashSet<>();
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeId employeeId = employees.get(i).getEmployeeId();
+            if (newPositions.putIfAbsent(employeeId, i) != null) {
+                duplicateIds.add(employeeId);
             }
         }
-        return true;
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(new ArrayList<>(duplicateIds));
+        }
+        return newPositions;
     }
 
     /**
      * Returns a list of pairs of employee IDs that have prefix conflicts.
+     * This is a full audit that costs O(n log n) plus the number of conflicting pairs.
      * @return list of pairs of employee IDs with prefix conflicts
      */
     public List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairs() {
-        return EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(internalList);
+        return EmployeeIdPrefixValidationUtils.getPrefixConflictingPairsFromSortedIds(
+                prefixIndex.getSortedEmployeeIds());
+    }
+
+    /**
+     * Returns true if some employee ID in the list is a prefix of another one.
+     * The invariant is kept up to date on every change to the list, so this check costs O(1).
+     */
+    public boolean hasPrefixConflicts() {
+        return prefixIndex.hasPrefixConflicts();
     }
 
     /**
@@ -222,7 +313,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean hasEmployeeIdPrefixConflict(EmployeeId employeeId) {
         requireNonNull(employeeId);
-        return internalList.stream().anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return prefixIndex.hasPrefixConflict(employeeId, null);
     }
 
     /**
@@ -237,9 +328,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore) {
         requireNonNull(employeeId);
         requireNonNull(toIgnore);
-        return internalList.stream()
-                .filter(person -> !person.getEmployeeId().equals(toIgnore))
-                .anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return prefixIndex.hasPrefixConflict(employeeId, toIgnore);
     }
 
 
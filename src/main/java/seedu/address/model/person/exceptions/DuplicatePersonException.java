@@ -1,11 +1,40 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.EmployeeId;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<EmployeeId> duplicateEmployeeIds;
+
+    /**
+     * Creates an exception that does not say which employee IDs are duplicated.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicateEmployeeIds = Collections.emptyList();
+    }
+
+    /**
+     * @param duplicateEmployeeIds the employee IDs that appear more than once, each listed once.
+     */
+    public DuplicatePersonException(List<EmployeeId> duplicateEmployeeIds) {
+        super("Operation would result in duplicate persons with employee IDs: " + duplicateEmployeeIds.stream()
+                .map(EmployeeId::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateEmployeeIds = Collections.unmodifiableList(duplicateEmployeeIds);
+    }
+
+    /**
+     * Returns the employee IDs that would be duplicated, or an empty list if they are not known.
+     */
+    public List<EmployeeId> getDuplicateEmployeeIds() {
+        return duplicateEmployeeIds;
     }
 }
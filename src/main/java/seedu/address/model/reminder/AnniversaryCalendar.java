@@ -0,0 +1,132 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.util.Pair;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * A calendar index of anniversaries, bucketed by the (month, day) they recur on.
+ * There is one bucket per day of a leap year, so Feb 29 anniversaries have a bucket of their own.
+ * Looking up the anniversaries that recur in the next N days then only visits N buckets,
+ * instead of every anniversary of every employee.
+ *
+ * Employees are identified by their {@code EmployeeId}. The anniversaries of an employee are
+ * recorded when the employee is added, so removing the employee later removes exactly those entries.
+ */
+public class AnniversaryCalendar {
+
+    /** One bucket per day of a leap year. */
+    private static final int BUCKET_COUNT = 366;
+    /** A leap year used to map a (month, day) to its bucket. */
+    private static final int REFERENCE_LEAP_YEAR = 2000;
+    private static final int FEB_29_BUCKET = bucketOf(Month.FEBRUARY.getValue(), 29);
+
+    private final List<Map<EmployeeId, List<Anniversary>>> buckets = new ArrayList<>(BUCKET_COUNT);
+    private final Map<EmployeeId, Pair<Employee, List<Anniversary>>> indexedEmployees = new HashMap<>();
+
+    /**
+     * Creates an empty calendar.
+     */
+    public AnniversaryCalendar() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Adds the anniversaries of {@code employee} to the calendar,
+     * replacing those of any employee previously added with the same employee ID.
+     */
+    public void add(Employee employee) {
+        requireNonNull(employee);
+        remove(employee);
+        List<Anniversary> anniversaries = new ArrayList<>();
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            if (anniversary == null || anniversary.getDate() == null) {
+                continue;
+            }
+            anniversaries.add(anniversary);
+            buckets.get(bucketOf(anniversary.getDate()))
+                    .computeIfAbsent(employee.getEmployeeId(), id -> new ArrayList<>())
+                    .add(anniversary);
+        }
+        indexedEmployees.put(employee.getEmployeeId(), new Pair<>(employee, anniversaries));
+    }
+
+    /**
+     * Removes the anniversaries of the employee with the same employee ID as {@code employee}, if any.
+     */
+    public void remove(Employee employee) {
+        requireNonNull(employee);
+        Pair<Employee, List<Anniversary>> indexed = indexedEmployees.remove(employee.getEmployeeId());
+        if (indexed == null) {
+            return;
+        }
+        for (Anniversary anniversary : indexed.getValue()) {
+            buckets.get(bucketOf(anniversary.getDate())).remove(employee.getEmployeeId());
+        }
+    }
+
+    /**
+     * Replaces the contents of the calendar with the anniversaries of {@code employees}.
+     */
+    public void setAll(Collection<Employee> employees) {
+        requireNonNull(employees);
+        buckets.forEach(Map::clear);
+        indexedEmployees.clear();
+        employees.forEach(this::add);
+    }
+
+    /**
+     * Returns the (employee, anniversary) pairs whose anniversary recurs on a (month, day)
+     * between {@code from} and {@code daysAhead} days after it, inclusive.
+     * In non-leap years, Feb 29 anniversaries are treated as recurring on Feb 28.
+     *
+     * The result only narrows down the candidates: an anniversary dated in the future recurs
+     * on its (month, day) but may not have its first occurrence within the range.
+     */
+    public List<Pair<Employee, Anniversary>> getAnniversariesWithin(LocalDate from, int daysAhead) {
+        requireNonNull(from);
+        List<Pair<Employee, Anniversary>> anniversaries = new ArrayList<>();
+        boolean[] visited = new boolean[BUCKET_COUNT];
+        for (int offset = 0; offset <= daysAhead && offset < BUCKET_COUNT; offset++) {
+            LocalDate date = from.plusDays(offset);
+            collectBucket(bucketOf(date), visited, anniversaries);
+            if (!date.isLeapYear() && date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28) {
+                collectBucket(FEB_29_BUCKET, visited, anniversaries);
+            }
+        }
+        return anniversaries;
+    }
+
+    private void collectBucket(int bucket, boolean[] visited, List<Pair<Employee, Anniversary>> anniversaries) {
+        if (visited[bucket]) {
+            return;
+        }
+        visited[bucket] = true;
+        buckets.get(bucket).forEach((employeeId, bucketAnniversaries) -> {
+            Employee employee = indexedEmployees.get(employeeId).getKey();
+            bucketAnniversaries.forEach(anniversary -> anniversaries.add(new Pair<>(employee, anniversary)));
+        });
+    }
+
+    private static int bucketOf(LocalDate date) {
+        return bucketOf(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    private static int bucketOf(int month, int day) {
+        return LocalDate.of(REFERENCE_LEAP_YEAR, month, day).getDayOfYear() - 1;
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.model.reminder;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 import seedu.address.model.anniversary.AnniversaryType;
 import seedu.address.model.person.Employee;
@@ -19,6 +18,7 @@ public class Reminder implements Comparable<Reminder> {
     private final LocalDate date;
     private final AnniversaryType type;
     private final String description;
+    private final LocalDate today;
 
     /**
      * Constructs a {@code Reminder}.
@@ -27,12 +27,14 @@ public class Reminder implements Comparable<Reminder> {
      * @param date        The upcoming date of the anniversary.
      * @param type        The type of the anniversary (e.g., Birthday, Work Anniversary).
      * @param description A short description for the anniversary.
+     * @param today       The date the reminder is computed on.
      */
-    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description) {
+    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description, LocalDate today) {
         this.employee = employee;
         this.date = date;
         this.type = type;
         this.description = description;
+        this.today = today;
     }
 
     /**
@@ -64,12 +66,12 @@ public class Reminder implements Comparable<Reminder> {
     }
 
     /**
-     * Calculates how many days are left from today until this reminder's anniversary.
+     * Calculates how many days are left from the date the reminder was computed on until its anniversary.
      *
      * @return Number of days remaining.
      */
     public long getDaysLeft() {
-        return ChronoUnit.DAYS.between(LocalDate.now(), date);
+        return date.toEpochDay() - today.toEpochDay();
     }
 
     /**
@@ -0,0 +1,94 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.address.model.person.Employee;
+
+/**
+ * An observable list of reminders kept in chronological order.
+ *
+ * Besides replacing the whole list, the reminders of a single employee can be replaced in place.
+ * Only the affected reminders are removed and inserted, and listeners are notified of all of it
+ * in a single change.
+ */
+public class ReminderList extends ModifiableObservableListBase<Reminder> {
+
+    private final List<Reminder> reminders = new ArrayList<>();
+
+    /**
+     * Removes the reminders of the employee with the same identity as {@code employee}
+     * and inserts {@code newReminders} at their chronological positions, as a single change.
+     * Does not notify listeners if nothing changes.
+     */
+    public void replaceRemindersOf(Employee employee, List<Reminder> newReminders) {
+        requireAllNonNull(employee, newReminders);
+        boolean hasRemindersToRemove = reminders.stream()
+                .anyMatch(reminder -> reminder.getEmployee().isSameEmployee(employee));
+        if (!hasRemindersToRemove && newReminders.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        try {
+            for (int i = reminders.size() - 1; i >= 0; i--) {
+                if (reminders.get(i).getEmployee().isSameEmployee(employee)) {
+                    remove(i);
+                }
+            }
+            for (Reminder reminder : newReminders) {
+                add(insertionPointOf(reminder), reminder);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the index after all reminders that are not later than {@code reminder},
+     * so reminders on the same date keep their insertion order.
+     */
+    private int insertionPointOf(Reminder reminder) {
+        requireNonNull(reminder);
+        int low = 0;
+        int high = reminders.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (reminders.get(mid).compareTo(reminder) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Reminder get(int index) {
+        return reminders.get(index);
+    }
+
+    @Override
+    public int size() {
+        return reminders.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Reminder element) {
+        reminders.add(index, element);
+    }
+
+    @Override
+    protected Reminder doSet(int index, Reminder element) {
+        return reminders.set(index, element);
+    }
+
+    @Override
+    protected Reminder doRemove(int index) {
+        return reminders.remove(index);
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import lombok.Getter;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Tag in the address book.
@@ -24,16 +25,41 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} for a tag name that is already known to be valid, without validating it again.
+     */
+    public static Tag fromTrusted(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but checked character by character without a regex.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        if (length == 0 || test.charAt(0) == ' ' || test.charAt(length - 1) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            boolean isValidCharacter = c == ' '
+                    ? test.charAt(i - 1) != ' '
+                    : ValidationUtil.isAsciiLetterOrDigit(c) || c == '!' || c == '@' || c == '-' || c == '\'';
+            if (!isValidCharacter) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
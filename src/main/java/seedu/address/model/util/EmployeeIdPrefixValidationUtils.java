@@ -1,6 +1,7 @@
 package seedu.address.model.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,19 +19,34 @@ public class EmployeeIdPrefixValidationUtils {
 
     /**
      * Gets all pairs of employee IDs in the list that have prefix conflicts.
+     * The IDs are sorted first, so this costs O(n log n) plus the number of conflicting pairs.
      * @param employees the list of employees to check
-     * @return list of conflicting pairs
+     * @return list of conflicting pairs, each ordered as (prefix, longer ID)
      */
     public static List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairs(List<Employee> employees) {
         Objects.requireNonNull(employees);
+        List<EmployeeId> sortedIds = employees.stream()
+                .map(Employee::getEmployeeId)
+                .sorted(Comparator.comparing(employeeId -> employeeId.value))
+                .toList();
+        return getPrefixConflictingPairsFromSortedIds(sortedIds);
+    }
+
+    /**
+     * Gets all pairs of employee IDs that have prefix conflicts from a list of IDs in ascending order.
+     * All IDs starting with a given ID directly follow it in sorted order, so each ID only needs to be
+     * compared against the run of IDs after it that it is a prefix of.
+     * @param sortedIds employee IDs sorted by their value
+     * @return list of conflicting pairs, each ordered as (prefix, longer ID)
+     */
+    public static List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairsFromSortedIds(
+            List<EmployeeId> sortedIds) {
+        Objects.requireNonNull(sortedIds);
         List<Pair<EmployeeId, EmployeeId>> conflicts = new ArrayList<>();
-        for (int i = 0; i < employees.size(); i++) {
-            EmployeeId id1 = employees.get(i).getEmployeeId();
-            for (int j = i + 1; j < employees.size(); j++) {
-                EmployeeId id2 = employees.get(j).getEmployeeId();
-                if (id1.hasPrefixConflict(id2)) {
-                    conflicts.add(new Pair<>(id1, id2));
-                }
+        for (int i = 0; i < sortedIds.size(); i++) {
+            EmployeeId prefix = sortedIds.get(i);
+            for (int j = i + 1; j < sortedIds.size() && prefix.isPrefixOf(sortedIds.get(j)); j++) {
+                conflicts.add(new Pair<>(prefix, sortedIds.get(j)));
             }
         }
         return conflicts;
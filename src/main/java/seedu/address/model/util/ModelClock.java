@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * The source of the current date for the date computations of a model.
+ *
+ * Reading the date from the system clock resolves the time zone on every call, which adds up when it is
+ * done once per anniversary. Instead, the current date is cached together with the instants at which it
+ * starts and ends, and is only recomputed once the clock passes midnight (or is turned back).
+ * Each model owns its own {@code ModelClock}, so a model run against a fixed or simulated date
+ * does not affect any other model.
+ */
+public final class ModelClock {
+
+    private final Clock clock;
+    private volatile CachedDay cachedDay;
+
+    /**
+     * Creates a {@code ModelClock} that reads the current date from {@code clock}.
+     */
+    public ModelClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.cachedDay = CachedDay.of(clock);
+    }
+
+    /**
+     * Returns the clock that the current date is read from.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the current date according to the clock.
+     */
+    public LocalDate today() {
+        return currentDay().date;
+    }
+
+    /**
+     * Returns the current date according to the clock, as a count of days from the epoch.
+     */
+    public long todayEpochDay() {
+        return currentDay().epochDay;
+    }
+
+    private CachedDay currentDay() {
+        CachedDay day = cachedDay;
+        long nowMillis = clock.millis();
+        if (nowMillis < day.startMillis || nowMillis >= day.endMillis) {
+            day = CachedDay.of(clock);
+            cachedDay = day;
+        }
+        return day;
+    }
+
+    /**
+     * A date together with the instants (in epoch milliseconds) at which it starts and ends.
+     */
+    private static final class CachedDay {
+        private final LocalDate date;
+        private final long epochDay;
+        private final long startMillis;
+        private final long endMillis;
+
+        private CachedDay(LocalDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.epochDay = date.toEpochDay();
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        static CachedDay of(Clock clock) {
+            ZoneId zone = clock.getZone();
+            LocalDate date = LocalDate.now(clock);
+            long startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            return new CachedDay(date, startMillis, endMillis);
+        }
+    }
+}
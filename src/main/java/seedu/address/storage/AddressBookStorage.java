@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,24 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if this storage can save the mutations of the address book since it was last read or saved,
+     * instead of the whole address book.
+     */
+    default boolean canSaveAddressBookChanges() {
+        return false;
+    }
+
+    /**
+     * Saves {@code mutations} of the address book, in order, on top of the address book this storage last read
+     * or saved.
+     * @param mutations cannot be null.
+     * @throws IOException if there was any problem writing to the file, or the mutations do not follow on from
+     *     what was last read or saved, as a failed save leaves it unknown what the storage holds.
+     * @throws UnsupportedOperationException if {@link #canSaveAddressBookChanges()} is false.
+     */
+    default void saveAddressBookChanges(List<AddressBookMutation> mutations) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
 }
@@ -0,0 +1,320 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an address book in a compact, versioned binary format.
+ *
+ * The format is a header (magic number and format version), a table of the strings that repeat across employees
+ * (job positions, tags and anniversary types), the employees, and a CRC32C checksum of everything before it.
+ * Strings are written as their length in bytes followed by their UTF-8 bytes, with a length of -1 for null.
+ * Employees refer to repeated strings by their index in the table, so each of them is only read once.
+ * The checksum is verified as the data is streamed in, and before any of it is used, after which the data is known
+ * to be what the app saved and is loaded without validating it again.
+ */
+final class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x48524253; // "HRBS"
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not a binary address book file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book format version: %d";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book file is corrupted (checksum mismatch).";
+    static final String MESSAGE_MALFORMED = "Binary address book file is malformed: %s";
+
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_REFERENCE = -1;
+    private static final int MAX_STRING_LENGTH = 1 << 24;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Employee> employees = addressBook.getEmployeeList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            intern(stringTable, employee.getJobPosition().value);
+            employee.getTags().forEach(tag -> intern(stringTable, tag.tagName));
+            for (Anniversary anniversary : employee.getAnniversaries()) {
+                intern(stringTable, anniversary.getType().getName());
+                intern(stringTable, anniversary.getType().getDescription());
+            }
+        }
+
+        Checksum checksum = new CRC32C();
+        DataOutputStream data = new DataOutputStream(
+                new CheckedOutputStream(new BufferedOutputStream(out), checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(data, string);
+        }
+
+        data.writeInt(employees.size());
+        for (Employee employee : employees) {
+            writeString(data, employee.getEmployeeId().value);
+            writeString(data, employee.getName().fullName);
+            writeString(data, employee.getPhone().value);
+            writeString(data, employee.getEmail().value);
+            data.writeInt(stringTable.get(employee.getJobPosition().value));
+            data.writeInt(employee.getTags().size());
+            for (Tag tag : employee.getTags()) {
+                data.writeInt(stringTable.get(tag.tagName));
+            }
+            data.writeInt(employee.getAnniversaries().size());
+            for (Anniversary anniversary : employee.getAnniversaries()) {
+                data.writeLong(anniversary.getDate().toEpochDay());
+                data.writeInt(referenceOf(stringTable, anniversary.getType().getName()));
+                data.writeInt(referenceOf(stringTable, anniversary.getType().getDescription()));
+                writeString(data, anniversary.getDescription());
+                writeString(data, anniversary.getName());
+            }
+        }
+
+        // The checksum itself is not part of the checksummed content.
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    private static void intern(Map<String, Integer> stringTable, String string) {
+        if (string != null) {
+            stringTable.putIfAbsent(string, stringTable.size());
+        }
+    }
+
+    private static int referenceOf(Map<String, Integer> stringTable, String string) {
+        return string == null ? NULL_REFERENCE : stringTable.get(string);
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        if (string == null) {
+            data.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read or is not a complete binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        InputStream buffered = new BufferedInputStream(in);
+        Checksum checksum = new CRC32C();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(buffered, checksum));
+        List<Employee> employees;
+        try {
+            employees = readContent(data);
+        } catch (EOFException e) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "unexpected end of file"), e);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // Corrupted data can hold values that the trusted constructors reject.
+            throw new IOException(String.format(MESSAGE_MALFORMED, e.getMessage()), e);
+        }
+
+        // The checksum itself is not part of the checksummed content.
+        DataInputStream trailer = new DataInputStream(buffered);
+        int savedChecksum;
+        try {
+            savedChecksum = trailer.readInt();
+        } catch (EOFException e) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "unexpected end of file"), e);
+        }
+        if (savedChecksum != (int) checksum.getValue()) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        if (trailer.read() != -1) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "unexpected trailing data"));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (Employee employee : employees) {
+            if (addressBook.hasPerson(employee)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(employee);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the employees in the content before the checksum.
+     * They are not to be used before the checksum of the content is verified.
+     */
+    private static List<Employee> readContent(DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = readCount(data);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(data));
+        }
+        StringTable table = new StringTable(strings.toArray(new String[0]));
+
+        int employeeCount = readCount(data);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < employeeCount; i++) {
+            employees.add(readEmployee(data, table));
+        }
+        return employees;
+    }
+
+    private static Employee readEmployee(DataInputStream data, StringTable table) throws IOException {
+        String employeeId = readString(data);
+        String name = readString(data);
+        String phone = readString(data);
+        String email = readString(data);
+        JobPosition jobPosition = table.jobPositionAt(data.readInt());
+
+        int tagCount = readCount(data);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(table.tagAt(data.readInt()));
+        }
+
+        int anniversaryCount = readCount(data);
+        List<Anniversary> anniversaries = new ArrayList<>();
+        for (int i = 0; i < anniversaryCount; i++) {
+            LocalDate date = LocalDate.ofEpochDay(data.readLong());
+            AnniversaryType type = table.anniversaryTypeAt(data.readInt(), data.readInt());
+            anniversaries.add(new Anniversary(date, type, readString(data), readString(data)));
+        }
+
+        if (employeeId == null || name == null || phone == null || email == null) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "missing employee field"));
+        }
+        return new Employee(EmployeeId.fromString(employeeId), Name.fromTrusted(name), Phone.fromTrusted(phone),
+                Email.fromTrusted(email), jobPosition, tags, anniversaries);
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "negative count " + count));
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException(String.format(MESSAGE_MALFORMED, "invalid string length " + length));
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The strings that repeat across employees, each converted to a value object at most once.
+     */
+    private static class StringTable {
+        private final String[] strings;
+        private final JobPosition[] jobPositions;
+        private final Tag[] tags;
+        private final Map<Long, AnniversaryType> anniversaryTypes = new HashMap<>();
+
+        StringTable(String[] strings) {
+            this.strings = strings;
+            this.jobPositions = new JobPosition[strings.length];
+            this.tags = new Tag[strings.length];
+        }
+
+        private String stringAt(int reference) throws IOException {
+            if (reference == NULL_REFERENCE) {
+                return null;
+            }
+            if (reference < 0 || reference >= strings.length) {
+                throw new IOException(String.format(MESSAGE_MALFORMED, "unknown string reference " + reference));
+            }
+            return strings[reference];
+        }
+
+        private String nonNullStringAt(int reference) throws IOException {
+            String value = stringAt(reference);
+            if (value == null) {
+                throw new IOException(String.format(MESSAGE_MALFORMED, "missing string reference"));
+            }
+            return value;
+        }
+
+        JobPosition jobPositionAt(int reference) throws IOException {
+            String value = nonNullStringAt(reference);
+            if (jobPositions[reference] == null) {
+                jobPositions[reference] = JobPosition.fromTrusted(value);
+            }
+            return jobPositions[reference];
+        }
+
+        Tag tagAt(int reference) throws IOException {
+            String value = nonNullStringAt(reference);
+            if (tags[reference] == null) {
+                tags[reference] = Tag.fromTrusted(value);
+            }
+            return tags[reference];
+        }
+
+        AnniversaryType anniversaryTypeAt(int nameReference, int descriptionReference) throws IOException {
+            String name = stringAt(nameReference);
+            String description = stringAt(descriptionReference);
+            long key = ((long) nameReference << 32) | (descriptionReference & 0xFFFFFFFFL);
+            AnniversaryType type = anniversaryTypes.get(key);
+            if (type == null) {
+                type = new AnniversaryType(name, description);
+                anniversaryTypes.put(key, type);
+            }
+            return type;
+        }
+    }
+}
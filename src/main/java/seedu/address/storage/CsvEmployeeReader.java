@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonCsvConverter.ANNIVERSARYDATE;
+import static seedu.address.storage.JsonCsvConverter.ANNIVERSARYDESCRIPTION;
+import static seedu.address.storage.JsonCsvConverter.ANNIVERSARYNAME;
+import static seedu.address.storage.JsonCsvConverter.ANNIVERSARYTYPE;
+import static seedu.address.storage.JsonCsvConverter.ANNIVERSARYTYPEDESC;
+import static seedu.address.storage.JsonCsvConverter.EMAIL;
+import static seedu.address.storage.JsonCsvConverter.EMPLOYEEID;
+import static seedu.address.storage.JsonCsvConverter.JOBPOSITION;
+import static seedu.address.storage.JsonCsvConverter.NAME;
+import static seedu.address.storage.JsonCsvConverter.PHONE;
+import static seedu.address.storage.JsonCsvConverter.TAGS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MultiFormatLocalDateDeserializer;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Employee;
+
+/**
+ * Reads employees from a CSV file in the format written by {@link JsonCsvConverter}.
+ *
+ * Rows with the same {@link PersonKey} are merged into a single employee holding the anniversaries of all of them,
+ * as they are read. Only the merged employees are held in memory, so the size of the file does not matter.
+ * Rows of the same employee ID with different details are kept apart, for the importer to report as conflicts.
+ * Large files are memory-mapped and parsed in chunks in parallel, and the employees of the chunks are then merged
+ * in the order of the chunks, so the result is the same as reading the file one row at a time.
+ */
+public class CsvEmployeeReader {
+
+    public static final String MESSAGE_EMPTY_CSV = "CSV data cannot be empty.";
+    public static final String MESSAGE_INVALID_DATE = "Invalid anniversary date: %s";
+
+    /** Files of at least this many bytes are parsed in parallel. */
+    static final long PARALLEL_READ_THRESHOLD = 1 << 22;
+
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 1 << 28;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private CsvEmployeeReader() {}
+
+    /**
+     * Reads the employees in the CSV file at {@code filePath}, in the order in which they first appear.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws CommandException if the file is empty or its header is missing a required field.
+     * @throws IllegalValueException if a row holds an invalid value.
+     */
+    public static List<Employee> readEmployees(Path filePath)
+            throws IOException, CommandException, IllegalValueException {
+        requireNonNull(filePath);
+        long size = Files.size(filePath);
+        if (size >= PARALLEL_READ_THRESHOLD) {
+            long chunkSize = size / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+            return readEmployeesInChunks(filePath, Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, chunkSize)));
+        }
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return readEmployees(reader);
+        }
+    }
+
+    /**
+     * Similar to {@link #readEmployees(Path)}, reading the CSV data from {@code reader} one row at a time.
+     */
+    static List<Employee> readEmployees(BufferedReader reader)
+            throws IOException, CommandException, IllegalValueException {
+        String header = readRecord(reader);
+        while (header != null && header.trim().isEmpty()) {
+            header = readRecord(reader);
+        }
+        if (header == null) {
+            throw new CommandException(MESSAGE_EMPTY_CSV);
+        }
+        Header csvHeader = new Header(header);
+
+        Map<PersonKey, MergedEmployee> employees = new LinkedHashMap<>();
+        for (String record = readRecord(reader); record != null; record = readRecord(reader)) {
+            csvHeader.addRow(employees, record);
+        }
+        return toEmployees(employees);
+    }
+
+    /**
+     * Reads the next record from {@code reader}, which spans several lines if a quoted field holds line breaks.
+     * Returns null if there are no more records.
+     * As in {@link RecordCursor#nextRecord()}, a line feed, a carriage return or both end a line,
+     * and line breaks inside quoted fields are read as line feeds.
+     */
+    private static String readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null || !hasUnclosedQuote(line)) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        boolean isInQuotes = true;
+        while (isInQuotes && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            isInQuotes ^= hasUnclosedQuote(line);
+        }
+        return record.toString();
+    }
+
+    private static boolean hasUnclosedQuote(CharSequence text) {
+        boolean isInQuotes = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                isInQuotes = !isInQuotes;
+            }
+        }
+        return isInQuotes;
+    }
+
+    /**
+     * Similar to {@link #readEmployees(Path)}, memory-mapping the file and parsing chunks of about
+     * {@code chunkSize} bytes in parallel.
+     */
+    static List<Employee> readEmployeesInChunks(Path filePath, long chunkSize)
+            throws IOException, CommandException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long[] boundaries = CsvFileChunks.findChunkBoundaries(channel, chunkSize);
+            int chunkCount = boundaries.length - 1;
+
+            // The header is the first record that is not blank, in the first chunk that has one.
+            int headerChunk = 0;
+            RecordCursor headerCursor = null;
+            String header = null;
+            while (header == null && headerChunk < chunkCount) {
+                headerCursor = new RecordCursor(
+                        CsvFileChunks.mapChunk(channel, boundaries[headerChunk], boundaries[headerChunk + 1]));
+                header = headerCursor.nextNonBlankRecord();
+                if (header == null) {
+                    headerChunk++;
+                }
+            }
+            if (header == null) {
+                throw new CommandException(MESSAGE_EMPTY_CSV);
+            }
+            Header csvHeader = new Header(header);
+
+            int firstChunk = headerChunk;
+            RecordCursor firstCursor = headerCursor;
+            ChunkResult[] results;
+            try {
+                results = IntStream.range(firstChunk, chunkCount).parallel()
+                        .mapToObj(i -> csvHeader.parseChunk(i == firstChunk
+                                ? firstCursor
+                                : new RecordCursor(mapChunk(channel, boundaries[i], boundaries[i + 1]))))
+                        .toArray(ChunkResult[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            Map<PersonKey, MergedEmployee> employees = new LinkedHashMap<>();
+            for (ChunkResult result : results) {
+                if (result.failure != null) {
+                    throw result.failure;
+                }
+                result.employees.forEach((key, employee) -> employees.merge(key, employee, MergedEmployee::merge));
+            }
+            return toEmployees(employees);
+        }
+    }
+
+    private static ByteBuffer mapChunk(FileChannel channel, long start, long end) {
+        try {
+            return CsvFileChunks.mapChunk(channel, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Employee> toEmployees(Map<PersonKey, MergedEmployee> employees) {
+        List<Employee> result = new ArrayList<>(employees.size());
+        for (MergedEmployee employee : employees.values()) {
+            result.add(employee.toEmployee());
+        }
+        return result;
+    }
+
+    /**
+     * The header of a CSV file, which locates the fields of its rows.
+     */
+    private static class Header {
+        final Map<String, Integer> indices;
+        final int fieldCount;
+
+        Header(String header) throws CommandException {
+            indices = JsonCsvConverter.readHeaderIndices(header);
+            fieldCount = JsonCsvConverter.parseCsvFields(header).length;
+        }
+
+        /**
+         * Merges the row in {@code record} into {@code employees}.
+         * Rows with fewer fields than the header are skipped.
+         */
+        void addRow(Map<PersonKey, MergedEmployee> employees, String record) throws IllegalValueException {
+            String[] values = JsonCsvConverter.parseCsvFields(record);
+            if (values.length < fieldCount) {
+                return;
+            }
+            Row row = new Row(values, indices);
+            MergedEmployee employee = employees.get(row.key);
+            if (employee == null) {
+                employee = new MergedEmployee(row.key.toJsonAdaptedPerson().toModelType());
+                employees.put(row.key, employee);
+            }
+            row.toAnniversary().ifPresent(employee.anniversaries::add);
+        }
+
+        /**
+         * Merges the rows of a chunk, stopping at the first invalid row.
+         */
+        ChunkResult parseChunk(RecordCursor cursor) {
+            Map<PersonKey, MergedEmployee> employees = new LinkedHashMap<>();
+            try {
+                for (String record = cursor.nextRecord(); record != null; record = cursor.nextRecord()) {
+                    addRow(employees, record);
+                }
+            } catch (IllegalValueException e) {
+                return new ChunkResult(employees, e);
+            } catch (CharacterCodingException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new ChunkResult(employees, null);
+        }
+    }
+
+    /**
+     * The employees merged from the rows of a chunk, and the invalid row that ended it, if any.
+     */
+    private static class ChunkResult {
+        final Map<PersonKey, MergedEmployee> employees;
+        final IllegalValueException failure;
+
+        ChunkResult(Map<PersonKey, MergedEmployee> employees, IllegalValueException failure) {
+            this.employees = employees;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Reads the records of a mapped chunk one at a time, decoding each record on its own.
+     * Line breaks inside quoted fields do not end a record.
+     */
+    private static class RecordCursor {
+        private final ByteBuffer bytes;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        private int position;
+
+        RecordCursor(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Returns the next record without its line break, or null if there are no more records.
+         * As in {@link #readRecord(BufferedReader)}, a line feed, a carriage return or both end a record,
+         * and line breaks inside quoted fields are read as line feeds.
+         *
+         * @throws CharacterCodingException if the record is not valid UTF-8.
+         */
+        String nextRecord() throws CharacterCodingException {
+            int limit = bytes.limit();
+            if (position >= limit) {
+                return null;
+            }
+            int start = position;
+            boolean isInQuotes = false;
+            boolean hasCarriageReturn = false;
+            for (; position < limit; position++) {
+                byte b = bytes.get(position);
+                if (b == '"') {
+                    isInQuotes = !isInQuotes;
+                } else if (b == '\r' || b == '\n') {
+                    if (!isInQuotes) {
+                        break;
+                    }
+                    hasCarriageReturn |= b == '\r';
+                }
+            }
+            int end = position;
+            if (position < limit && bytes.get(position++) == '\r' && position < limit && bytes.get(position) == '\n') {
+                position++;
+            }
+
+            String record = decoder.decode(bytes.slice(start, end - start)).toString();
+            return hasCarriageReturn ? record.replace("\r\n", "\n").replace('\r', '\n') : record;
+        }
+
+        String nextNonBlankRecord() throws CharacterCodingException {
+            String record = nextRecord();
+            while (record != null && record.trim().isEmpty()) {
+                record = nextRecord();
+            }
+            return record;
+        }
+    }
+
+    /**
+     * The trimmed values of a single CSV row.
+     */
+    private static class Row {
+        final PersonKey key;
+        final String anniversaryDate;
+        final String anniversaryType;
+        final String anniversaryTypeDescription;
+        final String anniversaryName;
+        final String anniversaryDescription;
+
+        Row(String[] values, Map<String, Integer> headerIndices) {
+            List<String> tags = new ArrayList<>();
+            String tagsValue = value(values, headerIndices, TAGS);
+            if (!tagsValue.isEmpty()) {
+                for (String tag : tagsValue.split(";")) {
+                    tags.add(tag.trim());
+                }
+            }
+            key = new PersonKey(value(values, headerIndices, NAME), value(values, headerIndices, PHONE),
+                    value(values, headerIndices, EMAIL), value(values, headerIndices, JOBPOSITION),
+                    value(values, headerIndices, EMPLOYEEID), tags);
+            anniversaryDate = value(values, headerIndices, ANNIVERSARYDATE);
+            anniversaryType = value(values, headerIndices, ANNIVERSARYTYPE);
+            anniversaryTypeDescription = value(values, headerIndices, ANNIVERSARYTYPEDESC);
+            anniversaryName = value(values, headerIndices, ANNIVERSARYNAME);
+            anniversaryDescription = value(values, headerIndices, ANNIVERSARYDESCRIPTION);
+        }
+
+        private static String value(String[] values, Map<String, Integer> headerIndices, String field) {
+            return values[headerIndices.get(field)].trim();
+        }
+
+        /**
+         * Returns the anniversary in this row, if any of its fields is filled in.
+         */
+        Optional<Anniversary> toAnniversary() throws IllegalValueException {
+            if (anniversaryDate.isEmpty() && anniversaryType.isEmpty() && anniversaryName.isEmpty()
+                    && anniversaryDescription.isEmpty()) {
+                return Optional.empty();
+            }
+            LocalDate date;
+            try {
+                date = MultiFormatLocalDateDeserializer.parse(anniversaryDate);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DATE, anniversaryDate));
+            }
+            return Optional.of(new Anniversary(date,
+                    new AnniversaryType(anniversaryType, anniversaryTypeDescription),
+                    anniversaryDescription, anniversaryName));
+        }
+    }
+
+    /**
+     * An employee read from the first of its rows, and the distinct anniversaries of all of its rows.
+     */
+    private static class MergedEmployee {
+        final Employee details;
+        final Set<Anniversary> anniversaries = new LinkedHashSet<>();
+
+        MergedEmployee(Employee details) {
+            this.details = details;
+        }
+
+        MergedEmployee merge(MergedEmployee later) {
+            anniversaries.addAll(later.anniversaries);
+            return this;
+        }
+
+        Employee toEmployee() {
+            return new Employee(details.getEmployeeId(), details.getName(), details.getPhone(), details.getEmail(),
+                    details.getJobPosition(), details.getTags(), new ArrayList<>(anniversaries));
+        }
+    }
+}
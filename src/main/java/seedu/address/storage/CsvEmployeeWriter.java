@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Employee;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes employees to a CSV file in the format read by {@link CsvEmployeeReader}, one row at a time.
+ *
+ * Rows are written straight from the employees, without converting them to json first,
+ * so only the row being written is held in memory, whatever the number of employees.
+ * Each employee has one row per anniversary, or a single row with empty anniversary fields if it has none.
+ */
+public class CsvEmployeeWriter {
+
+    static final List<String> HEADERS = List.of(
+            JsonCsvConverter.EMPLOYEEID, JsonCsvConverter.NAME, JsonCsvConverter.PHONE, JsonCsvConverter.EMAIL,
+            JsonCsvConverter.JOBPOSITION, JsonCsvConverter.TAGS, JsonCsvConverter.ANNIVERSARYDATE,
+            JsonCsvConverter.ANNIVERSARYTYPE, JsonCsvConverter.ANNIVERSARYTYPEDESC, JsonCsvConverter.ANNIVERSARYNAME,
+            JsonCsvConverter.ANNIVERSARYDESCRIPTION);
+
+    private static final String TAG_SEPARATOR = ";";
+    private static final String EMPTY_ANNIVERSARY_FIELDS = ",,,,,";
+
+    private final Writer writer;
+    /** The fields of the employee being written that are repeated on each of its rows. */
+    private final StringBuilder employeeFields = new StringBuilder();
+    /** Reused to join the tags of each employee. */
+    private final StringBuilder tags = new StringBuilder();
+
+    CsvEmployeeWriter(Writer writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    /**
+     * Writes {@code employees} to the CSV file at {@code filePath}, replacing its content.
+     */
+    public static void writeEmployees(List<? extends Employee> employees, Path filePath) throws IOException {
+        requireNonNull(employees);
+        requireNonNull(filePath);
+        try (BufferedWriter out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            CsvEmployeeWriter csvWriter = new CsvEmployeeWriter(out);
+            csvWriter.writeHeader();
+            for (Employee employee : employees) {
+                csvWriter.write(employee);
+            }
+        }
+    }
+
+    /**
+     * Writes the header row.
+     */
+    void writeHeader() throws IOException {
+        writer.write(String.join(",", HEADERS));
+        writer.write('\n');
+    }
+
+    /**
+     * Writes the rows of {@code employee}.
+     */
+    void write(Employee employee) throws IOException {
+        employeeFields.setLength(0);
+        appendEscaped(employeeFields, employee.getEmployeeId().toString());
+        employeeFields.append(',');
+        appendEscaped(employeeFields, employee.getName().fullName);
+        employeeFields.append(',');
+        appendEscaped(employeeFields, employee.getPhone().value);
+        employeeFields.append(',');
+        appendEscaped(employeeFields, employee.getEmail().value);
+        employeeFields.append(',');
+        appendEscaped(employeeFields, employee.getJobPosition().value);
+        employeeFields.append(',');
+        tags.setLength(0);
+        for (Tag tag : employee.getTags()) {
+            if (tags.length() > 0) {
+                tags.append(TAG_SEPARATOR);
+            }
+            tags.append(tag.tagName);
+        }
+        appendEscaped(employeeFields, tags);
+
+        if (employee.getAnniversaries().isEmpty()) {
+            writer.append(employeeFields).append(EMPTY_ANNIVERSARY_FIELDS).append('\n');
+            return;
+        }
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            AnniversaryType type = anniversary.getType();
+            writer.append(employeeFields);
+            writeField(String.valueOf(anniversary.getDate()));
+            writeField(type == null ? "" : String.valueOf(type.getName()));
+            writeField(type == null ? "" : String.valueOf(type.getDescription()));
+            writeField(String.valueOf(anniversary.getName()));
+            writeField(String.valueOf(anniversary.getDescription()));
+            writer.write('\n');
+        }
+    }
+
+    private void writeField(CharSequence value) throws IOException {
+        writer.write(',');
+        appendEscaped(writer, value);
+    }
+
+    /**
+     * Appends {@code value} to {@code out}, quoted as {@link JsonCsvConverter#parseCsvFields} unquotes it:
+     * empty values and values holding a comma, quote or newline are quoted, with their quotes doubled.
+     */
+    private static void appendEscaped(Appendable out, CharSequence value) throws IOException {
+        if (value.length() == 0) {
+            out.append("\"\"");
+            return;
+        }
+        if (!needsQuoting(value)) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean needsQuoting(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
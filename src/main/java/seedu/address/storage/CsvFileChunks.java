@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Splits a memory-mapped CSV file into chunks of whole records, so that the chunks can be parsed in parallel.
+ *
+ * The file is cut into segments of about the same size, and each segment is scanned on its own for the parity
+ * of the number of quotes in it and for its first line break, both as if it started inside a quoted field and as
+ * if it did not. Whether each segment really starts inside a quoted field then follows from the segments before it,
+ * and a chunk ends after the first line break of each segment that is outside quoted fields.
+ * Quotes and line breaks are single bytes that never occur within the UTF-8 encoding of another character,
+ * so segments are scanned as bytes without decoding them. A line feed outside quoted fields always ends a record,
+ * whether it follows a carriage return or not, while a lone carriage return only ends a record inside a chunk.
+ */
+final class CsvFileChunks {
+
+    static final String MESSAGE_RECORD_TOO_LONG = "CSV file has a record that is too long to be read.";
+
+    private static final byte QUOTE = '"';
+    private static final byte LINE_BREAK = '\n';
+    private static final int NOT_FOUND = -1;
+
+    private CsvFileChunks() {}
+
+    /**
+     * Returns the offsets at which the chunks of the file open in {@code channel} start, followed by its size.
+     * Every chunk starts at the beginning of a record, and is at least about {@code segmentSize} bytes long.
+     */
+    static long[] findChunkBoundaries(FileChannel channel, long segmentSize) throws IOException {
+        long size = channel.size();
+        int segmentCount = (int) Math.max(1, (size + segmentSize - 1) / segmentSize);
+        SegmentScan[] scans;
+        try {
+            scans = IntStream.range(0, segmentCount).parallel()
+                    .mapToObj(i -> scanSegment(channel, i * segmentSize, Math.min(size, (i + 1) * segmentSize)))
+                    .toArray(SegmentScan[]::new);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long[] boundaries = new long[segmentCount + 1];
+        int boundaryCount = 1; // the first chunk starts at 0
+        boolean isInQuotes = scans[0].hasOddQuotes;
+        for (int i = 1; i < segmentCount; i++) {
+            long lineBreak = isInQuotes ? scans[i].firstLineBreakIfInQuotes : scans[i].firstLineBreak;
+            if (lineBreak != NOT_FOUND && lineBreak + 1 < size) {
+                boundaries[boundaryCount++] = lineBreak + 1;
+            }
+            isInQuotes ^= scans[i].hasOddQuotes;
+        }
+        boundaries[boundaryCount++] = size;
+        return Arrays.copyOf(boundaries, boundaryCount);
+    }
+
+    private static SegmentScan scanSegment(FileChannel channel, long start, long end) {
+        MappedByteBuffer bytes;
+        try {
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Whether the scan is inside quotes, relative to the (unknown) state at the start of the segment.
+        boolean hasOddQuotes = false;
+        long firstLineBreak = NOT_FOUND;
+        long firstLineBreakIfInQuotes = NOT_FOUND;
+        int length = bytes.limit();
+        for (int i = 0; i < length; i++) {
+            byte b = bytes.get(i);
+            if (b == QUOTE) {
+                hasOddQuotes = !hasOddQuotes;
+            } else if (b == LINE_BREAK) {
+                if (!hasOddQuotes && firstLineBreak == NOT_FOUND) {
+                    firstLineBreak = start + i;
+                } else if (hasOddQuotes && firstLineBreakIfInQuotes == NOT_FOUND) {
+                    firstLineBreakIfInQuotes = start + i;
+                }
+            }
+        }
+        return new SegmentScan(hasOddQuotes, firstLineBreak, firstLineBreakIfInQuotes);
+    }
+
+    /**
+     * Maps the chunk of the file open in {@code channel} between {@code start} and {@code end}.
+     * The chunk is left undecoded, so that its records can be decoded one at a time without copying all of it
+     * onto the heap.
+     *
+     * @throws IOException if the chunk cannot be mapped.
+     */
+    static MappedByteBuffer mapChunk(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_RECORD_TOO_LONG);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * The quote parity and first line breaks of a segment, in both of the states it might start in.
+     */
+    private static class SegmentScan {
+        final boolean hasOddQuotes;
+        final long firstLineBreak;
+        final long firstLineBreakIfInQuotes;
+
+        SegmentScan(boolean hasOddQuotes, long firstLineBreak, long firstLineBreakIfInQuotes) {
+            this.hasOddQuotes = hasOddQuotes;
+            this.firstLineBreak = firstLineBreak;
+            this.firstLineBreakIfInQuotes = firstLineBreakIfInQuotes;
+        }
+    }
+}
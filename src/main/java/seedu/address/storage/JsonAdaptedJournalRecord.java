@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookMutation;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Jackson-friendly version of a single mutation of the address book, as recorded in the journal of
+ * {@link JsonJournalAddressBookStorage}.
+ *
+ * A replaced employee is looked up by the ID in {@code employeeId} if it was edited to a new ID, and by the ID of
+ * {@code employee} otherwise.
+ *
+ * Replaying a record is idempotent: adding an employee that is already present replaces it in place,
+ * replacing an employee that is missing adds it, and removing an employee that is missing does nothing.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_SET = "set";
+    static final String OPERATION_REMOVE = "remove";
+
+    static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    static final String MESSAGE_MISSING_FIELD = "Journal record is missing its %s field!";
+
+    private final String operation;
+    private final Integer index;
+    private final String employeeId;
+    private final JsonAdaptedPerson employee;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+                             @JsonProperty("index") Integer index,
+                             @JsonProperty("employeeId") String employeeId,
+                             @JsonProperty("employee") JsonAdaptedPerson employee) {
+        this.operation = operation;
+        this.index = index;
+        this.employeeId = employeeId;
+        this.employee = employee;
+    }
+
+    /**
+     * Returns a record of {@code employee} being added at position {@code index} of the employee list.
+     */
+    static JsonAdaptedJournalRecord add(int index, Employee employee) {
+        requireNonNull(employee);
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, index, null, new JsonAdaptedPerson(employee));
+    }
+
+    /**
+     * Returns a record of {@code replacedEmployee} being replaced by {@code employee}.
+     * The ID of {@code replacedEmployee} is only recorded if it differs from that of {@code employee}.
+     */
+    static JsonAdaptedJournalRecord set(Employee replacedEmployee, Employee employee) {
+        requireAllNonNull(replacedEmployee, employee);
+        String replacedId = replacedEmployee.getEmployeeId().equals(employee.getEmployeeId())
+                ? null
+                : replacedEmployee.getEmployeeId().toString();
+        return new JsonAdaptedJournalRecord(OPERATION_SET, null, replacedId, new JsonAdaptedPerson(employee));
+    }
+
+    /**
+     * Returns a record of the employee with {@code employeeId} being removed.
+     */
+    static JsonAdaptedJournalRecord remove(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, null, employeeId.toString(), null);
+    }
+
+    /**
+     * Returns the record of {@code mutation}, which must not be a reset of all employees.
+     */
+    static JsonAdaptedJournalRecord of(AddressBookMutation mutation) {
+        requireNonNull(mutation);
+        switch (mutation.getKind()) {
+        case ADD:
+            return add(mutation.getIndex(), mutation.getEmployee());
+        case SET:
+            return set(mutation.getReplacedEmployee(), mutation.getEmployee());
+        case REMOVE:
+            return remove(mutation.getEmployee().getEmployeeId());
+        default:
+            throw new IllegalArgumentException("A reset of all employees cannot be journaled: " + mutation);
+        }
+    }
+
+    /**
+     * Replays this record on {@code addressBook}.
+     *
+     * @param employeesById the employees of {@code addressBook} by their IDs, which is kept in sync.
+     * @throws IllegalValueException if the record or the employee in it is malformed.
+     */
+    void replayOn(AddressBook addressBook, Map<EmployeeId, Employee> employeesById) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "operation"));
+        }
+        switch (operation) {
+        case OPERATION_ADD:
+        case OPERATION_SET:
+            Employee replayed = toModelEmployee();
+            Employee replaced = employeeId == null ? null : employeesById.remove(toModelEmployeeId());
+            Employee existing = employeesById.put(replayed.getEmployeeId(), replayed);
+            if (replaced != null) {
+                existing = replaced;
+            }
+            if (existing != null) {
+                addressBook.setPerson(existing, replayed);
+            } else if (index != null) {
+                int size = addressBook.getEmployeeList().size();
+                addressBook.addPerson(Math.max(0, Math.min(index, size)), replayed);
+            } else {
+                addressBook.addPerson(replayed);
+            }
+            break;
+        case OPERATION_REMOVE:
+            if (employeeId == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "employeeId"));
+            }
+            Employee removed = employeesById.remove(toModelEmployeeId());
+            if (removed != null) {
+                addressBook.removePerson(removed);
+            }
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    private EmployeeId toModelEmployeeId() throws IllegalValueException {
+        if (!EmployeeId.isValidEmployeeId(employeeId)) {
+            throw new IllegalValueException(EmployeeId.MESSAGE_CONSTRAINTS);
+        }
+        return EmployeeId.fromString(employeeId);
+    }
+
+    private Employee toModelEmployee() throws IllegalValueException {
+        if (employee == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "employee"));
+        }
+        return employee.toModelType();
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Data;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Employee;
@@ -81,11 +82,14 @@ public class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted employee.
      */
     public Employee toModelType() throws IllegalValueException {
+        if (ValidationUtil.indexOfFirstInvalid(tags, tag -> Tag.isValidTagName(tag.getTagName())) != -1) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
         final List<Tag> personTags = new ArrayList<>();
-        final List<Anniversary> personAnniversaries = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toTrustedModelType());
         }
+        final List<Anniversary> personAnniversaries = new ArrayList<>();
         for (JsonAdaptedAnniversary anniversary : anniversaries) {
             personAnniversaries.add(anniversary.toModelType());
         }
@@ -138,4 +142,22 @@ public class JsonAdaptedPerson {
                 modelEmail, modelJobPosition, modelTags, modelAnniversaries);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted employee object into the model's {@code Employee} object
+     * without validating its fields, for employees read back from a data file whose checksum shows it is
+     * unchanged since it was saved.
+     */
+    public Employee toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        final List<Anniversary> modelAnniversaries = new ArrayList<>();
+        for (JsonAdaptedAnniversary anniversary : anniversaries) {
+            modelAnniversaries.add(anniversary.toModelType());
+        }
+        return new Employee(EmployeeId.fromString(employeeId), Name.fromTrusted(name), Phone.fromTrusted(phone),
+                Email.fromTrusted(email), JobPosition.fromTrusted(jobposition), modelTags, modelAnniversaries);
+    }
+
 }
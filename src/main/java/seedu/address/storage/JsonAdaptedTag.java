@@ -42,7 +42,15 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.fromTrusted(tagName);
+    }
+
+    /**
+     * Converts this adapted tag object into the model's {@code Tag} object without validating it,
+     * for tags read back from a data file whose checksum shows it is unchanged since it was saved.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.fromTrusted(tagName);
     }
 
 }
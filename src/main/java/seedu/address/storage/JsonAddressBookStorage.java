@@ -2,23 +2,38 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * A CRC32C checksum of the json file is saved next to it. While the checksum matches, the file is known to be
+ * unchanged since the app saved it, and its data is loaded without validating it again.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The suffix appended to the path of a json file to get the path of its checksum. */
+    public static final String CHECKSUM_FILE_SUFFIX = ".crc32c";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,27 +53,71 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the data file is missing or cannot be loaded, the previous generation of it is read instead, if any.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        return PreviousGenerationFallback.readSnapshotOrPreviousGeneration(filePath,
+                JsonAddressBookStorage::readSnapshot).map(addressBook -> addressBook);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+    /**
+     * Reads the snapshot at {@code filePath}, without falling back to its previous generation.
+     * Returns {@code Optional.empty()} if the file is missing.
+     */
+    static Optional<AddressBook> readSnapshot(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableAddressBook.readJson(in, hasMatchingChecksum(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Returns true if the checksum saved for the json file at {@code filePath} matches its content.
+     */
+    private static boolean hasMatchingChecksum(Path filePath) throws IOException {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!Files.exists(checksumFilePath)) {
+            return false;
+        }
+
+        long savedChecksum;
+        try {
+            savedChecksum = Long.parseLong(FileUtil.readFromFile(checksumFilePath).trim(), 16);
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Ignoring unreadable checksum " + checksumFilePath + ": " + e);
+            return false;
+        }
+
+        Checksum checksum = new CRC32C();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (checksum.getValue() != savedChecksum) {
+            logger.info(filePath + " has changed since it was saved, validating all of its data");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the path of the checksum of the json file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +125,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is replaced atomically, and its previous content is kept as its previous generation.
+     * Its checksum is saved after it, so a checksum left over from an interrupted save does not match.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +134,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Checksum checksum = new CRC32C();
+        FileUtil.writeToFileAtomicallyKeepingPrevious(filePath,
+                out -> JsonSerializableAddressBook.writeJson(addressBook, new CheckedOutputStream(out, checksum)));
+        FileUtil.writeToFileAtomically(getChecksumFilePath(filePath),
+                out -> out.write(Long.toHexString(checksum.getValue()).getBytes(StandardCharsets.US_ASCII)));
     }
 
 }
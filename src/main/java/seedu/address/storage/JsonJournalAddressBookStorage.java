@@ -0,0 +1,353 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with an append-only journal.
+ *
+ * Saving the changes to the data file only appends the mutations of the address book since the last save
+ * to a journal next to the snapshot, as one line of json records, while saving the whole address book writes
+ * a new snapshot. Once the journal grows past a size threshold, it is folded into a new snapshot in the background.
+ * Reading the data file replays the journal on top of the snapshot. A last line that was only partially written
+ * (e.g. because of a crash) is discarded. A snapshot with a journal that cannot be loaded fails the read, instead of
+ * falling back to its previous generation.
+ *
+ * Files other than the data file are read and written as plain json snapshots.
+ */
+public class JsonJournalAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalAddressBookStorage.class);
+
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Whether the snapshot and journal are known to hold the address book last read or saved. */
+    private boolean isInSync;
+    private Future<?> compaction;
+
+    public JsonJournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} whose journal is compacted
+     * once it is at least {@code compactionThreshold} bytes long.
+     */
+    public JsonJournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        super(filePath);
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    Path getJournalFilePath() {
+        return siblingOf(getAddressBookFilePath(), JOURNAL_SUFFIX);
+    }
+
+    Path getCompactingJournalFilePath() {
+        return siblingOf(getAddressBookFilePath(), COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        awaitCompaction();
+        isInSync = false;
+        Path compactingJournal = getCompactingJournalFilePath();
+        Path journal = getJournalFilePath();
+        if (!Files.exists(compactingJournal) && !Files.exists(journal)) {
+            return readSnapshotWithoutJournal(filePath);
+        }
+
+        Optional<AddressBook> snapshot = readJournaledSnapshot(filePath);
+        AddressBook addressBook = snapshot.orElseGet(AddressBook::new);
+        Map<EmployeeId, Employee> employeesById = indexById(addressBook);
+        try {
+            replayJournal(compactingJournal, addressBook, employeesById);
+            replayJournal(journal, addressBook, employeesById);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying the journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        isInSync = true;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, which has no journal, falling back to its previous generation
+     * as {@link JsonAddressBookStorage} does. Changes can only be journaled on a snapshot read from the data file
+     * itself, so the address book has to be saved in full after a fallback.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshotWithoutJournal(Path filePath) throws DataLoadingException {
+        try {
+            Optional<AddressBook> snapshot = readSnapshot(filePath);
+            if (snapshot.isPresent()) {
+                isInSync = true;
+                return Optional.of(snapshot.get());
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Error reading " + filePath + ", trying its previous generation: " + e);
+        }
+        return super.readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} that its journal follows on from.
+     * Unlike a snapshot without a journal, it does not fall back to its previous generation: the records already
+     * folded into the snapshot would be lost, and the journal would be replayed on older data than it was written
+     * against.
+     *
+     * @throws DataLoadingException if the snapshot cannot be loaded, or is missing although it had been written.
+     */
+    private static Optional<AddressBook> readJournaledSnapshot(Path filePath) throws DataLoadingException {
+        Optional<AddressBook> snapshot = readSnapshot(filePath);
+        if (!snapshot.isPresent() && FileUtil.isFileExists(FileUtil.getPreviousGenerationPath(filePath))) {
+            logger.warning(filePath + " is missing, but its journal has to be replayed on it");
+            throw new DataLoadingException(new NoSuchFileException(filePath.toString()));
+        }
+        return snapshot;
+    }
+
+    private static Map<EmployeeId, Employee> indexById(AddressBook addressBook) {
+        Map<EmployeeId, Employee> employeesById = new HashMap<>();
+        addressBook.getEmployeeList().forEach(employee -> employeesById.put(employee.getEmployeeId(), employee));
+        return employeesById;
+    }
+
+    /**
+     * Replays every line of {@code journal} on {@code addressBook}.
+     * If the last line was only partially written, it is ignored and cut off the journal.
+     */
+    private static void replayJournal(Path journal, AddressBook addressBook, Map<EmployeeId, Employee> employeesById)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        byte[] content = Files.readAllBytes(journal);
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            int lineEnd = indexOfNewline(content, lineStart);
+            if (lineEnd < 0) {
+                truncateTornRecord(journal, lineStart);
+                return;
+            }
+
+            String line = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            JsonAdaptedJournalRecord[] records;
+            try {
+                records = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord[].class);
+            } catch (JsonProcessingException e) {
+                if (lineEnd == content.length - 1) {
+                    truncateTornRecord(journal, lineStart);
+                    return;
+                }
+                throw e;
+            }
+            for (JsonAdaptedJournalRecord record : records) {
+                record.replayOn(addressBook, employeesById);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private static int indexOfNewline(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void truncateTornRecord(Path journal, long validLength) throws IOException {
+        logger.warning("Discarding a partially written record at the end of " + journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        isInSync = false;
+        writeSnapshotReplacingJournal(addressBook);
+        isInSync = true;
+    }
+
+    @Override
+    public boolean canSaveAddressBookChanges() {
+        return true;
+    }
+
+    /**
+     * Appends {@code mutations} to the journal as one line of records. A reset of all employees is written as a new
+     * snapshot instead, replacing the journal, and the mutations after it are appended to the fresh journal.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(List<AddressBookMutation> mutations) throws IOException {
+        requireNonNull(mutations);
+        if (!isInSync) {
+            throw new IOException("The journal of " + getAddressBookFilePath()
+                    + " does not follow on from the address book, which has to be saved in full.");
+        }
+
+        isInSync = false;
+        int lastReset = -1;
+        for (int i = 0; i < mutations.size(); i++) {
+            if (mutations.get(i).getKind() == AddressBookMutation.Kind.RESET) {
+                lastReset = i;
+            }
+        }
+        if (lastReset >= 0) {
+            AddressBook snapshot = new AddressBook();
+            snapshot.setEmployees(mutations.get(lastReset).getEmployees());
+            writeSnapshotReplacingJournal(snapshot);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(mutations.size() - lastReset - 1);
+        for (AddressBookMutation mutation : mutations.subList(lastReset + 1, mutations.size())) {
+            records.add(JsonAdaptedJournalRecord.of(mutation));
+        }
+        if (!records.isEmpty()) {
+            appendToJournal(records);
+        }
+        isInSync = true;
+
+        Path journal = getJournalFilePath();
+        if (Files.exists(journal) && Files.size(journal) >= compactionThreshold && !isCompacting()) {
+            startCompaction();
+        }
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        String line = JsonUtil.getObjectMapper().writeValueAsString(records) + "\n";
+        Path journal = getJournalFilePath();
+        FileUtil.createParentDirsOfFile(journal);
+        try (FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and discards the journal, which the snapshot supersedes.
+     */
+    private void writeSnapshotReplacingJournal(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        super.saveAddressBook(addressBook, getAddressBookFilePath());
+        Files.deleteIfExists(getCompactingJournalFilePath());
+        Files.deleteIfExists(getJournalFilePath());
+    }
+
+    private boolean isCompacting() {
+        return compaction != null && !compaction.isDone();
+    }
+
+    /**
+     * Moves the records of the journal aside and folds them into the snapshot in the background, by replaying them
+     * on the snapshot read back from the data file. Saves made in the meantime go to a fresh journal, which is
+     * replayed after the records set aside.
+     */
+    private void startCompaction() throws IOException {
+        Path journal = getJournalFilePath();
+        Path compactingJournal = getCompactingJournalFilePath();
+        if (Files.exists(compactingJournal)) {
+            // A previous compaction failed, so the records set aside then are still needed.
+            Files.write(compactingJournal, Files.readAllBytes(journal), StandardOpenOption.APPEND);
+            Files.delete(journal);
+        } else {
+            Files.move(journal, compactingJournal, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        Path filePath = getAddressBookFilePath();
+        compaction = compactor.submit(() -> {
+            try {
+                AddressBook addressBook = readJournaledSnapshot(filePath).orElseGet(AddressBook::new);
+                replayJournal(compactingJournal, addressBook, indexById(addressBook));
+                super.saveAddressBook(addressBook, filePath);
+                Files.delete(compactingJournal);
+            } catch (IOException | DataLoadingException | IllegalValueException e) {
+                logger.warning("Failed to compact the journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Compaction of " + getAddressBookFilePath() + " failed: " + e.getCause());
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import lombok.Getter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -25,6 +41,11 @@ public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate employee(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
+    /** The number of employees from which converting them in parallel pays off. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 512;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,46 +67,112 @@ public class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Large address books are converted in parallel; the error reported is always that of the first invalid
+     * or duplicate employee in the list, as if they were converted one at a time.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Employee employee = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(employee)) {
+        int size = persons.size();
+        Employee[] employees = new Employee[size];
+        IllegalValueException[] failures = new IllegalValueException[size];
+        Map<EmployeeId, Integer> firstPositions = new ConcurrentHashMap<>();
+
+        IntStream positions = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            positions = positions.parallel();
+        }
+        positions.forEach(i -> {
+            try {
+                employees[i] = persons.get(i).toModelType();
+                firstPositions.merge(employees[i].getEmployeeId(), i, Math::min);
+            } catch (IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            if (firstPositions.get(employees[i].getEmployeeId()) != i) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(employee);
         }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEmployees(Arrays.asList(employees));
         return addressBook;
     }
 
     /**
-     * Aggregates persons with the same name and merges their anniversaries.
-     * @return a new JsonSerializableAddressBook with aggregated persons
+     * Writes {@code source} to {@code out} in the same JSON format as this class, one employee at a time,
+     * so that no more than one employee is held in its JSON form at once.
      */
-    public JsonSerializableAddressBook aggregatePersons() {
-        Map<PersonKey, List<JsonAdaptedAnniversary>> groupedAnniversaries = new HashMap<>();
-
-        for (JsonAdaptedPerson person : persons) {
-            PersonKey key = PersonKey.from(person);
-            groupedAnniversaries
-                    .computeIfAbsent(key, k -> new ArrayList<>())
-                    .addAll(person.getAnniversaries());
+    public static void writeJson(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectWriter personWriter = objectMapper.writerFor(JsonAdaptedPerson.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Employee employee : source.getEmployeeList()) {
+                personWriter.writeValue(generator, new JsonAdaptedPerson(employee));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
+    }
 
-        List<JsonAdaptedPerson> aggregatedPersons = new ArrayList<>();
+    /**
+     * Reads an address book in the JSON format of this class from {@code in}, converting one employee at a time,
+     * so that no more than one employee is held in its JSON form at once.
+     *
+     * @throws IOException if {@code in} cannot be read or is not in the JSON format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readJson(InputStream in) throws IOException, IllegalValueException {
+        return readJson(in, false);
+    }
 
-        for (Map.Entry<PersonKey, List<JsonAdaptedAnniversary>> entry : groupedAnniversaries.entrySet()) {
-            JsonAdaptedPerson mergedPerson = entry.getKey().toJsonAdaptedPerson(); // base employee
-            List<JsonAdaptedAnniversary> merged = entry.getValue().stream()
-                    .distinct() // remove duplicates if equals() is overridden in JsonAdaptedAnniversary
-                    .collect(Collectors.toList());
-            mergedPerson.getAnniversaries().addAll(merged);
-            aggregatedPersons.add(mergedPerson);
+    /**
+     * Similar to {@link #readJson(InputStream)}.
+     * If {@code isTrusted}, the employees are not validated, as the content is known to have been written
+     * by {@link #writeJson(ReadOnlyAddressBook, OutputStream)} unchanged.
+     */
+    public static AddressBook readJson(InputStream in, boolean isTrusted) throws IOException, IllegalValueException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        ObjectReader personReader = objectMapper.readerFor(JsonAdaptedPerson.class);
+        AddressBook addressBook = new AddressBook();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(parser.getCurrentName())) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expectToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                    JsonAdaptedPerson adapted = personReader.readValue(parser);
+                    Employee employee = isTrusted ? adapted.toTrustedModelType() : adapted.toModelType();
+                    if (addressBook.hasPerson(employee)) {
+                        throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(employee);
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
         }
+        return addressBook;
+    }
 
-        return new JsonSerializableAddressBook(aggregatedPersons);
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 }
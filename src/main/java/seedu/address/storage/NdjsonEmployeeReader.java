@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Employee;
+
+/**
+ * Reads employees from a newline-delimited JSON (NDJSON) file, in which each line holds one {@link JsonAdaptedPerson}.
+ *
+ * Lines are parsed and converted one at a time, so only the employees read so far are held in memory,
+ * and never the JSON of the whole file. Blank lines are skipped, so files can be concatenated freely.
+ */
+public class NdjsonEmployeeReader {
+
+    public static final String MESSAGE_EMPTY_NDJSON = "NDJSON data cannot be empty.";
+    public static final String MESSAGE_INVALID_LINE = "Line %d: %s";
+    public static final String MESSAGE_NOT_AN_EMPLOYEE = "Expected a JSON object of an employee.";
+
+    private static final ObjectReader PERSON_READER = JsonUtil.getObjectMapper().readerFor(JsonAdaptedPerson.class);
+
+    private NdjsonEmployeeReader() {}
+
+    /**
+     * Reads the employees in the NDJSON file at {@code filePath}, in file order.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws CommandException if the file has no employees.
+     * @throws IllegalValueException if a line is not valid JSON or holds an invalid value.
+     *     The message starts with the number of the line.
+     */
+    public static List<Employee> readEmployees(Path filePath)
+            throws IOException, CommandException, IllegalValueException {
+        requireNonNull(filePath);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return readEmployees(reader);
+        }
+    }
+
+    /**
+     * Similar to {@link #readEmployees(Path)}, reading the NDJSON data from {@code reader}.
+     */
+    static List<Employee> readEmployees(BufferedReader reader)
+            throws IOException, CommandException, IllegalValueException {
+        List<Employee> employees = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (!line.trim().isEmpty()) {
+                employees.add(parseLine(line, lineNumber));
+            }
+        }
+        if (employees.isEmpty()) {
+            throw new CommandException(MESSAGE_EMPTY_NDJSON);
+        }
+        return employees;
+    }
+
+    private static Employee parseLine(String line, int lineNumber) throws IOException, IllegalValueException {
+        try {
+            JsonAdaptedPerson person = PERSON_READER.readValue(line);
+            if (person == null) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_EMPLOYEE);
+            }
+            return person.toModelType();
+        } catch (JsonProcessingException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, lineNumber, e.getOriginalMessage()));
+        } catch (IllegalValueException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, lineNumber, e.getMessage()));
+        }
+    }
+}
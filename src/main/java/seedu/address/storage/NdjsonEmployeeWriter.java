@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Employee;
+
+/**
+ * Writes employees to a newline-delimited JSON (NDJSON) file in the format read by {@link NdjsonEmployeeReader}.
+ *
+ * Each employee is written as soon as it is converted, as one compact {@link JsonAdaptedPerson} on its own line,
+ * so the file can be split or concatenated by line.
+ */
+public class NdjsonEmployeeWriter {
+
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.getObjectMapper().writerFor(JsonAdaptedPerson.class);
+
+    private final Writer writer;
+
+    NdjsonEmployeeWriter(Writer writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    /**
+     * Writes {@code employees} to the NDJSON file at {@code filePath}, replacing its content.
+     */
+    public static void writeEmployees(List<? extends Employee> employees, Path filePath) throws IOException {
+        requireNonNull(employees);
+        requireNonNull(filePath);
+        try (BufferedWriter out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            NdjsonEmployeeWriter ndjsonWriter = new NdjsonEmployeeWriter(out);
+            for (Employee employee : employees) {
+                ndjsonWriter.write(employee);
+            }
+        }
+    }
+
+    /**
+     * Writes the line of {@code employee}.
+     */
+    void write(Employee employee) throws IOException {
+        writer.write(PERSON_WRITER.writeValueAsString(new JsonAdaptedPerson(employee)));
+        writer.write('\n');
+    }
+}
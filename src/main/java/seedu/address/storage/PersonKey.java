@@ -24,23 +24,6 @@ public record PersonKey(
         String employeeId,
         List<String> tags
 ) {
-    /**
-     * Creates a PersonKey from a JsonAdaptedPerson.
-     * @param person the JsonAdaptedPerson to create the PersonKey from
-     * @return the PersonKey created from the JsonAdaptedPerson
-     */
-    public static PersonKey from(JsonAdaptedPerson person) {
-        return new PersonKey(
-                person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getJobposition(),
-                person.getEmployeeId(),
-                person.getTags().stream()
-                        .map(JsonAdaptedTag::getTagName).collect(Collectors.toList())
-        );
-    }
-
     /**
      * Creates a PersonKey from a Employee.
      * @param employee the Employee to create the PersonKey from
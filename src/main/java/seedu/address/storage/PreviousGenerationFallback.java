@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads a snapshot of the address book, falling back to the previous generation of it
+ * that {@link FileUtil#writeToFileAtomicallyKeepingPrevious} keeps, if the snapshot is missing or cannot be loaded.
+ */
+final class PreviousGenerationFallback {
+
+    private static final Logger logger = LogsCenter.getLogger(PreviousGenerationFallback.class);
+
+    /**
+     * Reads the snapshot at a path, without any fallback.
+     */
+    @FunctionalInterface
+    interface SnapshotReader<T> {
+        /**
+         * Returns the snapshot at {@code filePath}, or {@code Optional.empty()} if the file is missing.
+         *
+         * @throws DataLoadingException if the snapshot cannot be loaded.
+         */
+        Optional<T> read(Path filePath) throws DataLoadingException;
+    }
+
+    private PreviousGenerationFallback() {}
+
+    /**
+     * Reads the snapshot at {@code filePath} with {@code reader}.
+     * If it is missing or cannot be loaded, the previous generation of it is read instead, if any.
+     *
+     * @throws DataLoadingException if the snapshot cannot be loaded and there is no previous generation of it,
+     *     or the previous generation cannot be loaded either.
+     */
+    static <T> Optional<T> readSnapshotOrPreviousGeneration(Path filePath, SnapshotReader<T> reader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        Path previousGeneration = FileUtil.getPreviousGenerationPath(filePath);
+        Optional<T> snapshot;
+        try {
+            snapshot = reader.read(filePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw e;
+            }
+            logger.warning("Falling back to the previous generation of " + filePath + ": " + previousGeneration);
+            return reader.read(previousGeneration);
+        }
+
+        if (!snapshot.isPresent() && FileUtil.isFileExists(previousGeneration)) {
+            logger.warning(filePath + " is missing, falling back to its previous generation: " + previousGeneration);
+            return reader.read(previousGeneration);
+        }
+        return snapshot;
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookMutation;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -75,4 +77,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public boolean canSaveAddressBookChanges() {
+        return addressBookStorage.canSaveAddressBookChanges();
+    }
+
+    @Override
+    public void saveAddressBookChanges(List<AddressBookMutation> mutations) throws IOException {
+        logger.fine("Attempting to write " + mutations.size() + " changes to data file: "
+                + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(mutations);
+    }
+
 }
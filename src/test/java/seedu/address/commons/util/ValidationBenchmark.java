@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A microbenchmark of the field validators on import-sized inputs, comparing each of them with matching
+ * its {@code VALIDATION_REGEX} through {@code String#matches}, which compiles the regex on every call,
+ * and timing {@link ValidationUtil#indexOfFirstInvalid} on the same inputs as a batch.
+ * This is not run as part of the tests; run its {@code main} method to print the per-call cost.
+ */
+public class ValidationBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private static int acceptedCount;
+
+    public static void main(String[] args) {
+        List<String> employeeIds = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> phones = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        List<String> jobPositions = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            employeeIds.add(EmployeeId.generateNewEmployeeId().value);
+            names.add("Employee Number " + i);
+            phones.add(String.valueOf(90000000 + i));
+            emails.add("employee" + i + "@example-company.com");
+            jobPositions.add("Software Engineer " + (i % 10));
+            tags.add("team " + (i % 50));
+        }
+
+        measure("EmployeeId", employeeIds, EmployeeId::isValidEmployeeId, EmployeeId.VALIDATION_REGEX);
+        measure("Name", names, Name::isValidName, Name.VALIDATION_REGEX);
+        measure("Phone", phones, Phone::isValidPhone, Phone.VALIDATION_REGEX);
+        measure("Email", emails, Email::isValidEmail, Email.VALIDATION_REGEX);
+        measure("JobPosition", jobPositions, JobPosition::isValidJobPosition, JobPosition.VALIDATION_REGEX);
+        measure("Tag", tags, Tag::isValidTagName, Tag.VALIDATION_REGEX);
+        System.out.println("(" + acceptedCount + " values accepted)");
+    }
+
+    private static void measure(String field, List<String> values, Predicate<String> validator, String regex) {
+        double validatorNanos = nanosPerCall(values, validator);
+        double matchesNanos = nanosPerCall(values, value -> value.matches(regex));
+        double batchNanos = nanosPerBatchedValue(values, validator);
+        System.out.printf("%-12s validator %8.1f ns/call, String#matches %8.1f ns/call, "
+                + "indexOfFirstInvalid %8.1f ns/value%n", field, validatorNanos, matchesNanos, batchNanos);
+    }
+
+    private static double nanosPerBatchedValue(List<String> values, Predicate<String> validator) {
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            validateBatch(values, validator);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            validateBatch(values, validator);
+        }
+        return (double) (System.nanoTime() - start) / (MEASURED_ROUNDS * values.size());
+    }
+
+    private static double nanosPerCall(List<String> values, Predicate<String> validator) {
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            validateAll(values, validator);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            validateAll(values, validator);
+        }
+        return (double) (System.nanoTime() - start) / (MEASURED_ROUNDS * values.size());
+    }
+
+    private static void validateAll(List<String> values, Predicate<String> validator) {
+        for (String value : values) {
+            if (validator.test(value)) {
+                acceptedCount++;
+            }
+        }
+    }
+
+    private static void validateBatch(List<String> values, Predicate<String> validator) {
+        if (ValidationUtil.indexOfFirstInvalid(values, validator) == -1) {
+            acceptedCount += values.size();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLE_VALUES = Arrays.asList("", " ", "a", "-", "911", "91", "9312 1534",
+            "123456789012345678", "12345678901234567", "abc-123", "ABC-def-0", "a_b", "friends", "best friends",
+            "best  friends", " friends", "friends ", "R@chel's-tag!", "café", "١٢٣", "a\nb",
+            "123e4567-e89b-12d3-a456-426614174000", "123e4567-e89b-12d3-a456-4266141740001");
+
+    @Test
+    public void hasOnlyCharacters() {
+        assertThrows(NullPointerException.class, () ->
+                ValidationUtil.hasOnlyCharacters(null, 0, 1, ValidationUtil::isAsciiDigit));
+
+        assertFalse(ValidationUtil.hasOnlyCharacters("12", 3, 5, ValidationUtil::isAsciiDigit)); // too short
+        assertFalse(ValidationUtil.hasOnlyCharacters("123456", 3, 5, ValidationUtil::isAsciiDigit)); // too long
+        assertFalse(ValidationUtil.hasOnlyCharacters("12a", 3, 5, ValidationUtil::isAsciiDigit)); // wrong character
+
+        assertTrue(ValidationUtil.hasOnlyCharacters("", 0, 5, ValidationUtil::isAsciiDigit));
+        assertTrue(ValidationUtil.hasOnlyCharacters("123", 3, 5, ValidationUtil::isAsciiDigit));
+        assertTrue(ValidationUtil.hasOnlyCharacters("aZ9", 1, 3, ValidationUtil::isAsciiLetterOrDigit));
+    }
+
+    @Test
+    public void indexOfFirstInvalid() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.indexOfFirstInvalid(null, Tag::isValidTagName));
+        assertThrows(NullPointerException.class, () ->
+                ValidationUtil.indexOfFirstInvalid(Collections.emptyList(), null));
+
+        assertEquals(-1, ValidationUtil.indexOfFirstInvalid(Collections.<String>emptyList(), Tag::isValidTagName));
+        assertEquals(-1, ValidationUtil.indexOfFirstInvalid(Arrays.asList("a", "b c"), Tag::isValidTagName));
+        assertEquals(1, ValidationUtil.indexOfFirstInvalid(Arrays.asList("a", " ", "b", ""), Tag::isValidTagName));
+    }
+
+    @Test
+    public void scanningValidators_sameAsValidationRegex() {
+        assertSameAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX);
+        assertSameAsRegex(EmployeeId::isValidEmployeeId, EmployeeId.VALIDATION_REGEX);
+        assertSameAsRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX);
+    }
+
+    private void assertSameAsRegex(Predicate<String> validator, String regex) {
+        for (String value : SAMPLE_VALUES) {
+            assertEquals(value.matches(regex), validator.test(value), value);
+        }
+    }
+}
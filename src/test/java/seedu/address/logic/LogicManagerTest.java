@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.BIRTHDAY_DESC_AMY;
@@ -15,6 +17,7 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddEmployeeCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReminderCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -32,6 +37,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Employee;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonJournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.EmployeeBuilder;
@@ -86,6 +92,110 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_prefixConflicts_blockedOnlyByMoreThanOneDisplayedPair() throws Exception {
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("1234").build());
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("12").build());
+        // a single conflicting pair does not stop the commands that repair it
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("1").build());
+        assertTrue(logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser().startsWith("Data integrity error"));
+    }
+
+    @Test
+    public void execute_readOnlyCommands_skipSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("countingAddressBook.json");
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        // the first command always saves
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getPerformedSaveCount());
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ReminderCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getPerformedSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + JOB_DESC_AMY + BIRTHDAY_DESC_AMY + WORK_ANNIVERSARY_DESC_AMY;
+        logicManager.execute(addCommand);
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(3, logicManager.getPerformedSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportedByNextCommand() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(temporaryFolder.resolve("failing.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("failingUserPrefs.json"))), 0);
+
+        // the command returns normally, as it does not wait for the save
+        String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + JOB_DESC_AMY + BIRTHDAY_DESC_AMY + WORK_ANNIVERSARY_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, () -> logic.flushPendingSaves());
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addEmployee(new EmployeeBuilder(AMY).withTags().build());
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), expectedModel);
+    }
+
+    @Test
+    public void flushPendingSaves_backgroundSaving_coalescesChanges() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("backgroundAddressBook.json");
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundUserPrefs.json"))), 60_000);
+
+        String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + JOB_DESC_AMY + BIRTHDAY_DESC_AMY + WORK_ANNIVERSARY_DESC_AMY;
+        logicManager.execute(addCommand);
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        logicManager.execute(addCommand);
+        assertFalse(Files.exists(addressBookPath));
+
+        logicManager.flushPendingSaves();
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void flushPendingSaves_journalStorage_journalsChangesAfterFirstSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("journalAddressBook.json");
+        Path journalPath = temporaryFolder.resolve("journalAddressBook.json.journal");
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonJournalAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journalUserPrefs.json"))), 60_000);
+
+        // the first command saves the whole address book
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.flushPendingSaves();
+        assertTrue(Files.exists(addressBookPath));
+        assertFalse(Files.exists(journalPath));
+
+        String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + JOB_DESC_AMY + BIRTHDAY_DESC_AMY + WORK_ANNIVERSARY_DESC_AMY;
+        logicManager.execute(addCommand);
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        logicManager.execute(addCommand);
+        logicManager.flushPendingSaves();
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(model.getAddressBook(),
+                new JsonJournalAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
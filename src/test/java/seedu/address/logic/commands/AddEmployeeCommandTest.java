@@ -9,17 +9,21 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookMutation;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -152,6 +156,21 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasEmployeeIdPrefixConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasDuplicateEmployeeDetails(Employee employee) {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +186,12 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAndAddEmployees(List<Pair<Employee, Employee>> editedEmployees,
+                                       List<Employee> employeesToAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Employee> getFilteredEmployeeList() {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +226,36 @@ public class AddEmployeeCommandTest {
         public void commitChanges() {
             // Stub implementation, no-op
         }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookMutation> takeUnsavedMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -249,6 +304,11 @@ public class AddEmployeeCommandTest {
             return false;
         }
 
+        @Override
+        public LocalDate getToday() {
+            return LocalDate.now();
+        }
+
         @Override
         public ObservableList<Reminder> getReminderList() {
             return javafx.collections.FXCollections.observableArrayList(); // or stub list
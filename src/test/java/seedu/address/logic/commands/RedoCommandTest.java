@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+class RedoCommandTest {
+
+    private Model model;
+    private RedoCommand redoCommand;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        redoCommand = new RedoCommand();
+    }
+
+    @Test
+    void execute_redoAvailable_success() throws CommandException {
+        Employee validEmployee = new EmployeeBuilder().build();
+        model.commitChanges();
+        model.addEmployee(validEmployee);
+        new UndoCommand().execute(model);
+        assertFalse(model.hasEmployee(validEmployee));
+
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasEmployee(validEmployee));
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    void execute_noRedoAvailable_failure() {
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_FAILURE, result.getFeedbackToUser());
+    }
+
+    @Test
+    void execute_changeAfterUndo_discardsRedo() throws CommandException {
+        Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+        model.commitChanges();
+        model.addEmployee(first);
+        new UndoCommand().execute(model);
+
+        model.commitChanges();
+        model.addEmployee(second);
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_FAILURE, result.getFeedbackToUser());
+        assertFalse(model.hasEmployee(first));
+        assertTrue(model.hasEmployee(second));
+    }
+}
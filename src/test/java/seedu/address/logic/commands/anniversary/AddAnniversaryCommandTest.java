@@ -35,6 +35,7 @@ public class AddAnniversaryCommandTest {
     @BeforeEach
     public void setUp() {
         model = Mockito.mock(Model.class);
+        Mockito.when(model.getToday()).thenReturn(LocalDate.now());
         validEmployeeId = EmployeeId.fromString("00000000-0000-0000-0000-000000000001");
         validAnniversary = new Anniversary(
                 LocalDate.of(2025, 3, 13),
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands.importexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class AggregatedImportTest {
+
+    @Test
+    public void of_recordsOfSameEmployee_mergedWithoutModifyingThem() {
+        Employee first = new EmployeeBuilder(ALICE).withAnniversary("2025-03-13", "Family", "A", "a").build();
+        Employee second = new EmployeeBuilder(ALICE).withAnniversary("2025-03-14", "Family", "B", "b").build();
+        Employee conflicting = new EmployeeBuilder(BENSON).withName("Benson Other").build();
+
+        AggregatedImport aggregated = AggregatedImport.of(List.of(first, BENSON, second, conflicting, BENSON));
+
+        Employee merged = new EmployeeBuilder(first).withAnniversary("2025-03-14", "Family", "B", "b").build();
+        assertEquals(List.of(merged), aggregated.employees);
+        assertEquals(List.of(BENSON, conflicting, BENSON), aggregated.conflicts);
+        assertEquals(3, first.getAnniversaries().size());
+    }
+}
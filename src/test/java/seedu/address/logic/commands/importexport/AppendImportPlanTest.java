@@ -0,0 +1,48 @@
+package seedu.address.logic.commands.importexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class AppendImportPlanTest {
+
+    private final Model model = new ModelManager(
+            new AddressBookBuilder().withEmployee(ALICE).withEmployee(BENSON).withEmployee(CARL).build(),
+            new UserPrefs());
+
+    @Test
+    public void of_importedEmployees_classifiedAgainstAddressBook() {
+        Employee newEmployee = new EmployeeBuilder().withEmployeeId("1234").build();
+        Employee clashingWithExisting = new EmployeeBuilder().withEmployeeId("00000000").build();
+        Employee clashingWithNew = new EmployeeBuilder().withEmployeeId("12").build();
+        Employee mergedAlice = new EmployeeBuilder(ALICE)
+                .withAnniversary("2025-03-13", "Family", "Silver Wedding", "Celebrating 25 years").build();
+        Employee conflictingBenson = new EmployeeBuilder(BENSON).withPhone("99999999").build();
+
+        AppendImportPlan plan = AppendImportPlan.of(AggregatedImport.of(List.of(newEmployee, clashingWithExisting,
+                mergedAlice, conflictingBenson, CARL, clashingWithNew)), model);
+
+        assertEquals(List.of(newEmployee), plan.added);
+        assertEquals(List.of(new Pair<>(ALICE, mergedAlice)), plan.merged);
+        assertEquals(List.of(CARL), plan.unchanged);
+        assertEquals(List.of(conflictingBenson), plan.conflicting);
+        assertEquals(List.of(clashingWithExisting, clashingWithNew), plan.prefixClashing);
+        assertEquals(List.of(clashingWithExisting, conflictingBenson, clashingWithNew), plan.skipped);
+        assertEquals(3, plan.getImportedCount());
+        assertEquals(3, model.getAddressBook().getEmployeeList().size());
+        assertEquals(2, ALICE.getAnniversaries().size());
+    }
+}
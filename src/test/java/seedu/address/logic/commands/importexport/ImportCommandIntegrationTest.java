@@ -108,6 +108,17 @@ public class ImportCommandIntegrationTest {
         assertTrue(commandResult.getFeedbackToUser().contains("Successfully imported"));
     }
 
+    @Test
+    public void execute_importNdjsonOverwrite_sameAsJson() throws Exception {
+        new ImportCommand("json", TEST_DATA_FOLDER.resolve("test.json"), "overwrite").execute(model);
+        Model ndjsonModel = new ModelManager();
+        CommandResult commandResult = new ImportCommand("ndjson", TEST_DATA_FOLDER.resolve("test.ndjson"),
+                "overwrite").execute(ndjsonModel);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_OVERWRITE, 2), commandResult.getFeedbackToUser());
+        assertEquals(model.getAddressBook(), ndjsonModel.getAddressBook());
+    }
+
     @Test
     public void execute_importCsvWithMissingHeaders_throwsCommandException() {
         // CSV missing one or more required headers
@@ -165,4 +176,24 @@ public class ImportCommandIntegrationTest {
         assertTrue(commandResultJson.getFeedbackToUser().contains("da4ef25d-2ad2-4a30-819e"));
         assertTrue(commandResultJson.getFeedbackToUser().contains("df57c625-1bdb-4772-a5aa"));
     }
+
+    @Test
+    public void execute_dryRun_reportsChangesWithoutMakingThem() throws Exception {
+        new ImportCommand("csv", TEST_DATA_FOLDER.resolve("test.csv"), "overwrite").execute(model);
+        model = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+
+        CommandResult appendResult = new ImportCommand("csv", TEST_DATA_FOLDER.resolve("testAggregate.csv"),
+                "append", true).execute(model);
+        assertTrue(appendResult.getFeedbackToUser().startsWith(String.format(ImportDiffReport.MESSAGE_DRY_RUN,
+                "append")));
+
+        CommandResult overwriteResult = new ImportCommand("csv",
+                TEST_DATA_FOLDER.resolve("testEmployeeIdPrefixConflict.csv"), "overwrite", true).execute(model);
+        assertTrue(overwriteResult.getFeedbackToUser().contains("Removed: 6"));
+        assertTrue(overwriteResult.getFeedbackToUser().endsWith(ImportDiffReport.MESSAGE_OVERWRITE_WOULD_FAIL));
+
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
 }
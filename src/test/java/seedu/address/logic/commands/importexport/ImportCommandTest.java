@@ -3,13 +3,8 @@ package seedu.address.logic.commands.importexport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
@@ -26,22 +21,20 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Employee;
 import seedu.address.storage.JsonAdaptedPerson;
 import seedu.address.storage.JsonSerializableAddressBook;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class ImportCommandTest {
@@ -52,7 +45,6 @@ public class ImportCommandTest {
     @Mock
     private JsonSerializableAddressBook jsonSerializableAddressBook;
 
-    @InjectMocks
     private ImportCommand importCommand;
 
     private Path jsonFilePathNormalCase;
@@ -85,28 +77,14 @@ public class ImportCommandTest {
                      mockStatic(AddressBookFormatConverter.class)) {
             // Setup base mocks
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathNormalCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create mock JsonAdaptedPerson objects
-            JsonAdaptedPerson mockJsonPerson1 = mock(JsonAdaptedPerson.class);
-            JsonAdaptedPerson mockJsonPerson2 = mock(JsonAdaptedPerson.class);
-            List<JsonAdaptedPerson> mockJsonPersons = Arrays.asList(mockJsonPerson1, mockJsonPerson2);
-
-            // Mock getPersons() to return our list of JsonAdaptedPersons
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
+                    .thenReturn(new ArrayList<>(addressBookUnique.getEmployeeList()));
 
-            // Mock the toModelType() for each JsonAdaptedPerson
-            when(mockJsonPerson1.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(0));
-            when(mockJsonPerson2.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(1));
-
-            // Mock empty response list for employeeId lookups
-            ObservableList<Employee> emptyList = FXCollections.observableArrayList();
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(any())).thenReturn(emptyList);
+            when(model.getAddressBook()).thenReturn(new AddressBook());
 
             importCommand = new ImportCommand("csv", csvFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
-            verify(model, times(2)).addEmployee(any(Employee.class));
+            verify(model).setAndAddEmployees(List.of(), List.of(AMY, BOB));
             assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_APPEND, 2, 0, "Conflicting records found:\n"),
                     result.getFeedbackToUser());
         }
@@ -122,42 +100,17 @@ public class ImportCommandTest {
                      mockStatic(AddressBookFormatConverter.class)) {
             // Setup imported data with AMY and BOB
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathNormalCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create mock JsonAdaptedPerson objects
-            JsonAdaptedPerson mockJsonPerson1 = mock(JsonAdaptedPerson.class);
-            JsonAdaptedPerson mockJsonPerson2 = mock(JsonAdaptedPerson.class);
-            List<JsonAdaptedPerson> mockJsonPersons = Arrays.asList(mockJsonPerson1, mockJsonPerson2);
+                    .thenReturn(new ArrayList<>(addressBookUnique.getEmployeeList()));
 
-            // Mock getPersons() to return our list of JsonAdaptedPersons
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
-
-            // Mock the toModelType() for each JsonAdaptedPerson
-            when(mockJsonPerson1.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(0)); // AMY
-            when(mockJsonPerson2.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(1)); // BOB
-            when(mockJsonPerson1.getEmployeeId()).thenReturn(String.valueOf(AMY.getEmployeeId()));
-            when(mockJsonPerson2.getEmployeeId()).thenReturn(String.valueOf(BOB.getEmployeeId()));
-
-            // Create mock employee that will conflict with BOB
-            Employee mockConflictingEmployee = mock(Employee.class);
-            when(mockConflictingEmployee.isSameEmployee(BOB)).thenReturn(true);
-            when(mockConflictingEmployee.hasSameDetails(BOB)).thenReturn(false);
-
-            // Use doReturn/when syntax which is more lenient with argument matching
-            ObservableList<Employee> emptyList = FXCollections.observableArrayList();
-            ObservableList<Employee> bobConflictList = FXCollections.observableArrayList(mockConflictingEmployee);
-
-            // AMY behavior - no conflict
-            doReturn(emptyList).when(model).getFullFilteredByEmployeeIdPrefixListFromData(AMY.getEmployeeId());
-
-            // Specific behavior for BOB
-            doReturn(bobConflictList).when(model).getFullFilteredByEmployeeIdPrefixListFromData(BOB.getEmployeeId());
+            // BOB already exists with different details
+            Employee conflictingBob = new EmployeeBuilder(BOB).withName("Bob Conflicting").build();
+            when(model.getAddressBook()).thenReturn(new AddressBookBuilder().withEmployee(conflictingBob).build());
 
             importCommand = new ImportCommand("csv", csvFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Only AMY should be added, BOB should be skipped
-            verify(model, times(1)).addEmployee(any(Employee.class));
+            verify(model).setAndAddEmployees(List.of(), List.of(AMY));
 
             // Check feedback message contains expected values
             String feedback = result.getFeedbackToUser();
@@ -196,7 +149,8 @@ public class ImportCommandTest {
 
 
     /**
-     * Tests how the getAnniversaries().toArray() method is called when contacts with same details are found.
+     * Tests that the new anniversaries of contacts with the same details are merged into the existing ones,
+     * without modifying the existing contacts.
      * @throws Exception
      */
     @Test
@@ -205,49 +159,18 @@ public class ImportCommandTest {
                      mockStatic(AddressBookFormatConverter.class)) {
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromJson(jsonFilePathNormalCase))
                     .thenReturn(jsonSerializableAddressBook);
-            // Setup imported data with test data containing anniversaries
-            List<Employee> actualEmployees = addressBookDuplicate.getEmployeeList();
-            List<JsonAdaptedPerson> mockJsonPersons = new ArrayList<>();
-
-            for (Employee employee : actualEmployees) {
-                JsonAdaptedPerson mockJsonPerson = mock(JsonAdaptedPerson.class);
-                when(mockJsonPerson.toModelType()).thenReturn(employee);
-                when(mockJsonPerson.getEmployeeId()).thenReturn(String.valueOf(employee.getEmployeeId()));
-                mockJsonPersons.add(mockJsonPerson);
-            }
-
-            // Mock getPersons() to return the controlled list
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
-
-            // Create a mock Employee
-            Employee mockExistingEmployee = mock(Employee.class);
-            when(mockExistingEmployee.getName()).thenReturn(ALICE.getName());
-            when(mockExistingEmployee.getEmployeeId()).thenReturn(ALICE.getEmployeeId());
-            when(mockExistingEmployee.getPhone()).thenReturn(ALICE.getPhone());
-            when(mockExistingEmployee.getTags()).thenReturn(ALICE.getTags());
-            when(mockExistingEmployee.getJobPosition()).thenReturn(ALICE.getJobPosition());
-            when(mockExistingEmployee.getEmail()).thenReturn(ALICE.getEmail());
-            when(mockExistingEmployee.isSameEmployee(any())).thenReturn(true);
-            when(mockExistingEmployee.hasSameDetails(any())).thenReturn(true);
-
-            // Create a separate mock for the anniversaries list
-            @SuppressWarnings("unchecked")
-            List<Anniversary> realAnniversaryList = new ArrayList<>();
-            List<Anniversary> spyAnniversaryList = spy(realAnniversaryList);
-            when(mockExistingEmployee.getAnniversaries()).thenReturn(spyAnniversaryList);
-
-
-            // Return our mock when searching for ALICE
-            ObservableList<Employee> matchList = FXCollections.observableArrayList(mockExistingEmployee);
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(ALICE.getEmployeeId()))
-                    .thenReturn(matchList);
+            Employee importedAlice = new EmployeeBuilder(ALICE)
+                    .withAnniversary("2025-03-13", "Family", "Silver Wedding", "Celebrating 25 years").build();
+            JsonAdaptedPerson mockAliceJson = mock(JsonAdaptedPerson.class);
+            when(mockAliceJson.toModelType()).thenReturn(importedAlice);
+            when(jsonSerializableAddressBook.getPersons()).thenReturn(List.of(mockAliceJson));
+            when(model.getAddressBook()).thenReturn(addressBookDuplicate);
 
             importCommand = new ImportCommand("json", jsonFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
-            // Use ArgumentCaptor to specify the Collection version of addAll
-            verify(spyAnniversaryList, times(1)).toArray();
-
+            verify(model).setAndAddEmployees(List.of(new Pair<>(ALICE, importedAlice)), List.of());
+            assertEquals(2, ALICE.getAnniversaries().size());
             assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_APPEND, 1, 0, "Conflicting records found:\n"),
                     result.getFeedbackToUser());
         }
@@ -264,44 +187,18 @@ public class ImportCommandTest {
 
             // Set up mock return for importFromCsv
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathDuplicateCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create actual persons for the conflict test
-            AddressBook conflictBook = new AddressBookBuilder()
-                    .withEmployee(ALICE).withEmployee(BOB).build();
-            // Mock JsonAdaptedPerson list
-            List<JsonAdaptedPerson> mockJsonPersons = new ArrayList<>();
-
-            JsonAdaptedPerson mockAliceJson = mock(JsonAdaptedPerson.class);
-            when(mockAliceJson.toModelType()).thenReturn(ALICE);
-            when(mockAliceJson.getEmployeeId()).thenReturn(ALICE.getEmployeeId().toString());
-            mockJsonPersons.add(mockAliceJson);
-
-            JsonAdaptedPerson mockBobJson = mock(JsonAdaptedPerson.class);
-            when(mockBobJson.toModelType()).thenReturn(BOB);
-            when(mockBobJson.getEmployeeId()).thenReturn(BOB.getEmployeeId().toString());
-            mockJsonPersons.add(mockBobJson);
-
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
+                    .thenReturn(Arrays.asList(ALICE, BOB));
 
-            // Mock a conflicting employee for ALICE
-            Employee mockConflictEmployee = mock(Employee.class);
-            when(mockConflictEmployee.getName()).thenReturn(ALICE.getName());
-            when(mockConflictEmployee.isSameEmployee(any())).thenReturn(true);
-            when(mockConflictEmployee.hasSameDetails(any())).thenReturn(false);
-
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(ALICE.getEmployeeId()))
-                    .thenReturn(FXCollections.observableArrayList(mockConflictEmployee));
-
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(BOB.getEmployeeId()))
-                    .thenReturn(FXCollections.observableArrayList());
+            // ALICE already exists with different details
+            Employee conflictingAlice = new EmployeeBuilder(ALICE).withPhone("99999999").build();
+            when(model.getAddressBook()).thenReturn(new AddressBookBuilder().withEmployee(conflictingAlice).build());
 
             importCommand = new ImportCommand("csv", csvFilePathDuplicateCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Only BOB should be added
-            verify(model, times(1)).addEmployee(eq(BOB));
-            assertTrue(result.getFeedbackToUser().contains(mockConflictEmployee.getName().toString()));
+            verify(model).setAndAddEmployees(List.of(), List.of(BOB));
+            assertTrue(result.getFeedbackToUser().contains(ALICE.getName().toString()));
         }
     }
 
@@ -320,33 +217,23 @@ public class ImportCommandTest {
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromJson(jsonFilePathDuplicateCase))
                     .thenReturn(jsonSerializableAddressBook);
 
-            // Prepare real model data — employee with same ID but different details
-            AddressBook modifiedBook = new AddressBookBuilder().withEmployee(ALICE).build();
             // Create and mock a JsonAdaptedPerson to return ALICE
             JsonAdaptedPerson mockAliceJson = mock(JsonAdaptedPerson.class);
             when(mockAliceJson.toModelType()).thenReturn(ALICE);
-            when(mockAliceJson.getEmployeeId()).thenReturn(ALICE.getEmployeeId().toString());
             when(jsonSerializableAddressBook.getPersons()).thenReturn(List.of(mockAliceJson));
 
-            // Simulate existing employee with same ID but different details
-            Employee mockExistingEmployee = mock(Employee.class);
-            when(mockExistingEmployee.getName()).thenReturn(ALICE.getName());
-            when(mockExistingEmployee.getEmployeeId()).thenReturn(ALICE.getEmployeeId());
-            when(mockExistingEmployee.isSameEmployee(any())).thenReturn(true);
-            when(mockExistingEmployee.hasSameDetails(any())).thenReturn(false);
-
-            // When model is queried for existing employee, return this mock
-            ObservableList<Employee> matchList = FXCollections.observableArrayList(mockExistingEmployee);
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(any())).thenReturn(matchList);
+            // Existing employee with same ID but different details
+            Employee existingAlice = new EmployeeBuilder(ALICE).withEmail("alice@other.com").build();
+            when(model.getAddressBook()).thenReturn(new AddressBookBuilder().withEmployee(existingAlice).build());
 
             // Execute command
             importCommand = new ImportCommand("json", jsonFilePathDuplicateCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Verify no addition happens due to conflict
-            verify(model, times(0)).addEmployee(any(Employee.class));
-            assertTrue(result.getFeedbackToUser().contains(mockExistingEmployee.getName().toString()));
-            assertTrue(result.getFeedbackToUser().contains(mockExistingEmployee.getEmployeeId().toString()));
+            verify(model).setAndAddEmployees(List.of(), List.of());
+            assertTrue(result.getFeedbackToUser().contains(ALICE.getName().toString()));
+            assertTrue(result.getFeedbackToUser().contains(ALICE.getEmployeeId().toString()));
         }
     }
 
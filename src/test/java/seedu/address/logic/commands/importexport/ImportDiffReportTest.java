@@ -0,0 +1,63 @@
+package seedu.address.logic.commands.importexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class ImportDiffReportTest {
+
+    private final Model model = new ModelManager(
+            new AddressBookBuilder().withEmployee(ALICE).withEmployee(BENSON).build(), new UserPrefs());
+
+    @Test
+    public void ofAppend_manyAddedEmployees_countedWithSamples() {
+        List<Employee> imported = List.of(
+                new EmployeeBuilder().withEmployeeId("1").withName("One").build(),
+                new EmployeeBuilder().withEmployeeId("2").withName("Two").build(),
+                new EmployeeBuilder().withEmployeeId("3").withName("Three").build(),
+                new EmployeeBuilder().withEmployeeId("4").withName("Four").build(),
+                ALICE);
+        AggregatedImport aggregated = AggregatedImport.of(imported);
+
+        String report = ImportDiffReport.ofAppend(aggregated, AppendImportPlan.of(aggregated, model)).format();
+
+        assertEquals(String.join("\n",
+                String.format(ImportDiffReport.MESSAGE_DRY_RUN, "append"),
+                "Added: 4 e.g. One (1), Two (2), Three (3), ...",
+                "Unchanged: 1 e.g. " + ALICE.getName() + " (" + ALICE.getEmployeeId() + ")",
+                "Merged anniversaries: 0",
+                "Conflicting: 0",
+                "Prefix clashing: 0"), report);
+        assertEquals(2, model.getAddressBook().getEmployeeList().size());
+    }
+
+    @Test
+    public void ofOverwrite_conflictingEmployees_reportsOverwriteWouldFail() {
+        Employee conflictingBenson = new EmployeeBuilder(BENSON).withPhone("99999999").build();
+        AggregatedImport aggregated = AggregatedImport.of(List.of(ALICE, BENSON, conflictingBenson));
+
+        String report = ImportDiffReport.ofOverwrite(aggregated, model).format();
+
+        assertEquals(String.join("\n",
+                String.format(ImportDiffReport.MESSAGE_DRY_RUN, "overwrite"),
+                "Added: 0",
+                "Unchanged: 1 e.g. " + ALICE.getName() + " (" + ALICE.getEmployeeId() + ")",
+                "Replaced: 0",
+                "Removed: 1 e.g. " + BENSON.getName() + " (" + BENSON.getEmployeeId() + ")",
+                "Conflicting: 2 e.g. " + BENSON.getName() + " (" + BENSON.getEmployeeId() + "), "
+                        + conflictingBenson.getName() + " (" + conflictingBenson.getEmployeeId() + ")",
+                "Prefix clashing: 0",
+                ImportDiffReport.MESSAGE_OVERWRITE_WOULD_FAIL), report);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILENAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILETYPE;
@@ -55,6 +57,21 @@ public class ImportCommandParserTest {
         assertEquals(expectedCommand.getPath(), parser.parse(userInput).getPath());
     }
 
+    @Test
+    public void parse_dryRun_success() throws Exception {
+        String userInput = " " + PREFIX_FILEPATH + VALID_FILEPATH + " "
+                + PREFIX_FILENAME + VALID_FILENAME + " "
+                + PREFIX_FILETYPE + VALID_FILETYPE_CSV + " "
+                + PREFIX_WRITE_MODE + VALID_WRITE_MODE_APPEND + " "
+                + ImportCommand.DRY_RUN_KEYWORD;
+
+        ImportCommand command = parser.parse(userInput);
+        assertEquals(VALID_WRITE_MODE_APPEND, command.getMode());
+        assertEquals(Paths.get(VALID_FILEPATH, VALID_FILENAME + "." + VALID_FILETYPE_CSV), command.getPath());
+        assertTrue(command.isDryRun());
+        assertFalse(parser.parse(userInput.replace(ImportCommand.DRY_RUN_KEYWORD, "")).isDryRun());
+    }
+
     @Test
     public void parse_missingWriteMode_throwsParseException() {
         String userInput = " " + PREFIX_FILEPATH + VALID_FILEPATH + " "
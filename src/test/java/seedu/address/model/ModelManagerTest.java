@@ -10,16 +10,24 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.EmployeeNotFoundException;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EmployeeBuilder;
@@ -138,6 +146,244 @@ public class ModelManagerTest {
         assertEquals(0, reminders.size());
     }
 
+    @Test
+    public void updateReminderList_employeeEditedAndDeleted_remindersFollowEmployee() {
+        LocalDate today = LocalDate.now();
+        Employee employee = new EmployeeBuilder()
+                .withBirthdayAndWorkAnniversary(today.minusYears(30).plusDays(2), today.minusYears(5).plusDays(30))
+                .build();
+        modelManager.addEmployee(employee);
+        assertEquals(1, modelManager.getReminderList().size());
+
+        Employee edited = new EmployeeBuilder(employee)
+                .withBirthdayAndWorkAnniversary(today.minusYears(30).plusDays(1), today.minusYears(5))
+                .build();
+        modelManager.setEmployee(employee, edited);
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(2, reminders.size());
+        assertEquals(today, reminders.get(0).getDate());
+        assertEquals(edited, reminders.get(1).getEmployee());
+
+        modelManager.deleteEmployee(edited);
+        assertTrue(modelManager.getReminderList().isEmpty());
+    }
+
+    @Test
+    public void setEmployee_employeeWithoutUpcomingAnniversaries_reminderListUnchanged() {
+        LocalDate today = LocalDate.now();
+        Employee upcoming = new EmployeeBuilder().withEmployeeId("1")
+                .withBirthdayAndWorkAnniversary(today.minusYears(30), today.minusYears(5).plusDays(60))
+                .build();
+        Employee notUpcoming = new EmployeeBuilder().withEmployeeId("2")
+                .withBirthdayAndWorkAnniversary(today.minusYears(30).plusDays(50), today.minusYears(5).plusDays(60))
+                .build();
+        modelManager = new ModelManager(new AddressBookBuilder().withEmployee(upcoming).withEmployee(notUpcoming)
+                .build(), new UserPrefs());
+        // reminders are available without running the reminder command first
+        assertEquals(1, modelManager.getReminderList().size());
+
+        List<ListChangeListener.Change<? extends Reminder>> changes = new ArrayList<>();
+        modelManager.getReminderList().addListener((ListChangeListener<Reminder>) changes::add);
+        modelManager.setEmployee(notUpcoming, new EmployeeBuilder(notUpcoming).withName("Edited Name").build());
+        assertTrue(changes.isEmpty());
+
+        modelManager.deleteEmployee(upcoming);
+        assertEquals(1, changes.size());
+        assertTrue(modelManager.getReminderList().isEmpty());
+    }
+
+    @Test
+    public void constructor_injectedClock_remindersComputedForClockDate() {
+        LocalDate today = LocalDate.of(2027, 2, 27);
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        Employee leapDayBirthday = new EmployeeBuilder()
+                .withBirthdayAndWorkAnniversary(LocalDate.of(1996, 2, 29), LocalDate.of(2020, 3, 5))
+                .build();
+        modelManager = new ModelManager(new AddressBookBuilder().withEmployee(leapDayBirthday).build(),
+                new UserPrefs(), clock);
+
+        // Feb 29 falls back to Feb 28 in a non-leap year
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(1, reminders.size());
+        assertEquals(LocalDate.of(2027, 2, 28), reminders.get(0).getDate());
+        assertEquals(1, reminders.get(0).getDaysLeft());
+        assertEquals(LocalDate.of(2027, 2, 28), leapDayBirthday.getNextUpcomingDate(today));
+    }
+
+    @Test
+    public void constructor_injectedClock_doesNotAffectOtherModels() {
+        Clock clock = Clock.fixed(Instant.parse("2000-01-01T00:00:00Z"), ZoneOffset.UTC);
+        ModelManager fixedModel = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+
+        assertEquals(LocalDate.of(2000, 1, 1), fixedModel.getToday());
+        assertEquals(LocalDate.now(), new ModelManager().getToday());
+        assertEquals(LocalDate.now(), modelManager.getToday());
+    }
+
+    @Test
+    public void undoAddressBook_addEditDeleteAndReset_restoresEachCommittedState() {
+        Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+        Employee third = new EmployeeBuilder().withEmployeeId("3").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(first).withEmployee(second)
+                .withEmployee(third).build());
+        AddressBook initial = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.commitAddressBook();
+        modelManager.deleteEmployee(second);
+        AddressBook afterDelete = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.commitAddressBook();
+        Employee editedFirst = new EmployeeBuilder(first).withEmployeeId("4").build();
+        modelManager.setEmployee(first, editedFirst);
+        modelManager.addEmployee(second);
+        AddressBook afterEditAndAdd = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.commitAddressBook();
+        modelManager.setAddressBook(new AddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(afterEditAndAdd, modelManager.getAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+        modelManager.undoAddressBook();
+        // the deleted employee is restored at its original position
+        assertEquals(initial, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void redoAddressBook_afterUndoingSeveralCommits_reappliesThemInOrder() {
+        Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+        Employee editedFirst = new EmployeeBuilder(first).withName("Edited Name").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+
+        modelManager.commitAddressBook();
+        modelManager.addEmployee(first);
+        modelManager.addEmployee(second);
+        modelManager.commitAddressBook();
+        modelManager.setEmployee(first, editedFirst);
+        modelManager.commitAddressBook();
+        modelManager.deleteEmployee(second);
+        modelManager.commitAddressBook();
+        modelManager.setAddressBook(new AddressBook());
+        AddressBook finalState = new AddressBook(modelManager.getAddressBook());
+
+        while (modelManager.canUndoAddressBook()) {
+            modelManager.undoAddressBook();
+        }
+        assertTrue(modelManager.getAddressBook().getEmployeeList().isEmpty());
+
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBookBuilder().withEmployee(first).withEmployee(second).build(),
+                modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBookBuilder().withEmployee(editedFirst).withEmployee(second).build(),
+                modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(finalState, modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void setAndAddEmployees_editsAndAdditions_appliedAsOneUndoableChange() {
+        LocalDate today = LocalDate.now();
+        Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(first).withEmployee(second).build());
+        AddressBook initial = new AddressBook(modelManager.getAddressBook());
+        modelManager.updateFilteredEmployeeList(employee -> false);
+
+        Employee editedSecond = new EmployeeBuilder(second)
+                .withBirthdayAndWorkAnniversary(today.minusYears(30), today.minusYears(5).plusDays(60))
+                .build();
+        Employee third = new EmployeeBuilder().withEmployeeId("3")
+                .withBirthdayAndWorkAnniversary(today.minusYears(20).plusDays(1), today.minusYears(2).plusDays(60))
+                .build();
+        modelManager.commitAddressBook();
+        modelManager.setAndAddEmployees(List.of(new Pair<>(second, editedSecond)), List.of(third));
+
+        assertEquals(new AddressBookBuilder().withEmployee(first).withEmployee(editedSecond).withEmployee(third)
+                .build(), modelManager.getAddressBook());
+        assertEquals(3, modelManager.getFilteredEmployeeList().size());
+        assertEquals(2, modelManager.getReminderList().size());
+
+        modelManager.undoAddressBook();
+        assertEquals(initial, modelManager.getAddressBook());
+        assertTrue(modelManager.getReminderList().isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void setAndAddEmployees_invalidChanges_addressBookUnchanged() {
+        Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+        modelManager.addEmployee(first);
+        long version = modelManager.getAddressBookVersion();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                modelManager.setAndAddEmployees(List.of(), List.of(second, new EmployeeBuilder(first).build())));
+        assertThrows(EmployeeNotFoundException.class, () ->
+                modelManager.setAndAddEmployees(List.of(new Pair<>(second, first)), List.of()));
+
+        assertEquals(new AddressBookBuilder().withEmployee(first).build(), modelManager.getAddressBook());
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void takeUnsavedMutations_afterChanges_returnsMutationsSinceLastTaken() {
+        Employee editedAlice = new EmployeeBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.addEmployee(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.setEmployee(ALICE, editedAlice);
+        modelManager.undoAddressBook();
+
+        List<AddressBookMutation> mutations = modelManager.takeUnsavedMutations();
+        assertEquals(List.of(AddressBookMutation.Kind.ADD, AddressBookMutation.Kind.SET,
+                AddressBookMutation.Kind.SET), mutations.stream().map(AddressBookMutation::getKind).toList());
+        assertEquals(ALICE, mutations.get(2).getEmployee());
+        assertEquals(editedAlice, mutations.get(2).getReplacedEmployee());
+        assertTrue(modelManager.takeUnsavedMutations().isEmpty());
+
+        // a reset supersedes the mutations before it
+        modelManager.deleteEmployee(ALICE);
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(BENSON).build());
+        mutations = modelManager.takeUnsavedMutations();
+        assertEquals(1, mutations.size());
+        assertEquals(List.of(BENSON), mutations.get(0).getEmployees());
+    }
+
+    @Test
+    public void commitAddressBook_historyLimitReached_dropsOldestCommits() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(2);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        for (int i = 0; i < 5; i++) {
+            modelManager.commitAddressBook();
+            modelManager.addEmployee(new EmployeeBuilder().withEmployeeId("E" + i).build());
+        }
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(3, modelManager.getAddressBook().getEmployeeList().size());
+    }
+
+    @Test
+    public void commitAddressBook_noChangesSinceLastCommit_reusesCommit() {
+        modelManager.commitAddressBook();
+        modelManager.addEmployee(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canUndoAddressBook());
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasEmployee(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void hasPerson_nullEmployee_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasEmployee(null));
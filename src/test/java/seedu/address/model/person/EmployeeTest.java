@@ -97,7 +97,7 @@ public class EmployeeTest {
     @Test
     public void getNextUpcomingDate_noAnniversaries_returnsNull() {
         Employee employee = new EmployeeBuilder().withBirthdayAndWorkAnniversary(null, null).build();
-        assertNull(employee.getNextUpcomingDate());
+        assertNull(employee.getNextUpcomingDate(LocalDate.now()));
     }
 
     @Test
@@ -107,7 +107,7 @@ public class EmployeeTest {
                 .withBirthdayAndWorkAnniversary(futureBirthday, null)
                 .build();
 
-        assertEquals(futureBirthday, employee.getNextUpcomingDate());
+        assertEquals(futureBirthday, employee.getNextUpcomingDate(LocalDate.now()));
     }
 
     @Test
@@ -118,6 +118,6 @@ public class EmployeeTest {
                 .build();
 
         LocalDate expectedDate = pastBirthday.plusYears(1);
-        assertEquals(expectedDate, employee.getNextUpcomingDate());
+        assertEquals(expectedDate, employee.getNextUpcomingDate(LocalDate.now()));
     }
 }
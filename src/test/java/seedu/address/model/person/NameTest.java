@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,15 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void fromTrusted() {
+        assertThrows(NullPointerException.class, () -> Name.fromTrusted(null));
+
+        // not validated again
+        assertEquals("", Name.fromTrusted("").fullName);
+        assertEquals(new Name("Peter Jack"), Name.fromTrusted("Peter Jack"));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -9,18 +9,22 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.EmployeeNotFoundException;
 import seedu.address.testutil.EmployeeBuilder;
 
 public class UniqueEmployeeListTest {
 
+    private static final int LARGE_LIST_SIZE = 20_000;
+
     private final UniqueEmployeeList uniqueEmployeeList = new UniqueEmployeeList();
 
     @Test
@@ -164,6 +168,142 @@ public class UniqueEmployeeListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.setPersons(listWithDuplicateEmployees));
     }
 
+    @Test
+    public void setEmployees_listWithSeveralDuplicates_reportsAllDuplicateIds() {
+        List<Employee> employees = new ArrayList<>(buildEmployees(LARGE_LIST_SIZE));
+        employees.add(employees.get(3));
+        employees.add(employees.get(LARGE_LIST_SIZE - 1));
+        employees.add(employees.get(3));
+        uniqueEmployeeList.add(BOB);
+
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(employees.get(3).getEmployeeId(),
+                employees.get(LARGE_LIST_SIZE - 1).getEmployeeId())).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniqueEmployeeList.setPersons(employees));
+
+        // the list is left untouched
+        assertEquals(Collections.singletonList(BOB), uniqueEmployeeList.asUnmodifiableObservableList());
+        assertTrue(uniqueEmployeeList.contains(BOB));
+    }
+
+    @Test
+    public void getEmployeesWithIdPrefix_matchingPrefix_returnsAllMatches() {
+        Employee first = new EmployeeBuilder(ALICE).withEmployeeId("abc1").build();
+        Employee second = new EmployeeBuilder(BOB).withEmployeeId("abc2").build();
+        Employee other = new EmployeeBuilder(BOB).withEmployeeId("abd").build();
+        uniqueEmployeeList.add(other);
+        uniqueEmployeeList.add(second);
+        uniqueEmployeeList.add(first);
+        assertEquals(Arrays.asList(first, second), uniqueEmployeeList.getEmployeesWithIdPrefix(new EmployeeId("abc")));
+        assertEquals(Collections.singletonList(other),
+                uniqueEmployeeList.getEmployeesWithIdPrefix(new EmployeeId("abd")));
+        assertTrue(uniqueEmployeeList.getEmployeesWithIdPrefix(new EmployeeId("b")).isEmpty());
+    }
+
+    @Test
+    public void getEmployeesWithIdPrefix_afterEditAndRemove_reflectsChanges() {
+        uniqueEmployeeList.add(ALICE);
+        Employee renamedAlice = new EmployeeBuilder(ALICE).withEmployeeId("renamed").build();
+        uniqueEmployeeList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniqueEmployeeList.getEmployeesWithIdPrefix(ALICE.getEmployeeId()).isEmpty());
+        assertEquals(Collections.singletonList(renamedAlice),
+                uniqueEmployeeList.getEmployeesWithIdPrefix(new EmployeeId("ren")));
+
+        uniqueEmployeeList.remove(renamedAlice);
+        assertTrue(uniqueEmployeeList.getEmployeesWithIdPrefix(new EmployeeId("ren")).isEmpty());
+    }
+
+    @Test
+    public void hasPrefixConflicts_trackedThroughAddEditRemove() {
+        Employee prefix = new EmployeeBuilder(ALICE).withEmployeeId("a1").build();
+        Employee sibling = new EmployeeBuilder(BOB).withEmployeeId("a2").build();
+        Employee extended = new EmployeeBuilder(BOB).withEmployeeId("a1b").build();
+        uniqueEmployeeList.add(prefix);
+        uniqueEmployeeList.add(sibling);
+        assertFalse(uniqueEmployeeList.hasPrefixConflicts());
+
+        uniqueEmployeeList.setPerson(sibling, extended);
+        assertTrue(uniqueEmployeeList.hasPrefixConflicts());
+        assertEquals(1, uniqueEmployeeList.getPrefixConflictingPairs().size());
+
+        uniqueEmployeeList.remove(prefix);
+        assertFalse(uniqueEmployeeList.hasPrefixConflicts());
+        assertTrue(uniqueEmployeeList.getPrefixConflictingPairs().isEmpty());
+    }
+
+    @Test
+    public void hasPrefixConflicts_nonNeighbouringPrefix_detected() {
+        // "a" is a prefix of "ac", even though "ab" sorts between them
+        uniqueEmployeeList.setPersons(Arrays.asList(
+                new EmployeeBuilder(ALICE).withEmployeeId("ab").build(),
+                new EmployeeBuilder(BOB).withEmployeeId("ac").build()));
+        assertFalse(uniqueEmployeeList.hasPrefixConflicts());
+        uniqueEmployeeList.add(new EmployeeBuilder(BOB).withEmployeeId("a").build());
+        assertTrue(uniqueEmployeeList.hasPrefixConflicts());
+        assertEquals(2, uniqueEmployeeList.getPrefixConflictingPairs().size());
+    }
+
+    @Test
+    public void hasEmployeeIdPrefixConflict_usesIndex() {
+        uniqueEmployeeList.add(new EmployeeBuilder(ALICE).withEmployeeId("abc").build());
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("ab")));
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("abcd")));
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("abc")));
+        assertFalse(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("abd")));
+        assertFalse(uniqueEmployeeList.hasEmployeeIdPrefixConflictIgnoringSpecific(
+                new EmployeeId("abcd"), new EmployeeId("abc")));
+    }
+
+    @Test
+    public void employeeIdIndex_largeList_staysInSyncThroughSetPersonsAndEdits() {
+        List<Employee> employees = buildEmployees(LARGE_LIST_SIZE);
+        uniqueEmployeeList.setPersons(employees);
+        employees.forEach(employee -> assertTrue(uniqueEmployeeList.contains(employee)));
+
+        // remove every other employee, so that positions of all later employees shift
+        List<Employee> remaining = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            if (i % 2 == 0) {
+                uniqueEmployeeList.remove(employees.get(i));
+            } else {
+                remaining.add(employees.get(i));
+            }
+        }
+        assertFalse(uniqueEmployeeList.contains(employees.get(0)));
+        assertEquals(remaining, uniqueEmployeeList.asUnmodifiableObservableList());
+
+        // edit every remaining employee, giving half of them a new employee ID
+        List<Employee> edited = new ArrayList<>();
+        for (int i = 0; i < remaining.size(); i++) {
+            Employee target = remaining.get(i);
+            EmployeeBuilder builder = new EmployeeBuilder(target).withJobPosition(VALID_JOBPOSITION_BOB);
+            if (i % 2 == 0) {
+                builder.withEmployeeId("edited-" + target.getEmployeeId());
+            }
+            Employee editedEmployee = builder.build();
+            uniqueEmployeeList.setPerson(target, editedEmployee);
+            edited.add(editedEmployee);
+        }
+        assertEquals(edited, uniqueEmployeeList.asUnmodifiableObservableList());
+        assertFalse(uniqueEmployeeList.contains(remaining.get(0)));
+        assertTrue(uniqueEmployeeList.contains(remaining.get(1)));
+
+        // copying into another list and resetting an address book keeps the copies indexed
+        UniqueEmployeeList copy = new UniqueEmployeeList();
+        copy.setPersons(uniqueEmployeeList);
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(() -> uniqueEmployeeList.asUnmodifiableObservableList());
+        for (Employee employee : edited) {
+            assertTrue(copy.contains(employee));
+            assertTrue(addressBook.hasPerson(employee));
+        }
+        Employee last = edited.get(edited.size() - 1);
+        copy.remove(last);
+        addressBook.removePerson(last);
+        assertFalse(copy.contains(last));
+        assertFalse(addressBook.hasPerson(last));
+        assertThrows(EmployeeNotFoundException.class, () -> copy.setPerson(remaining.get(0), ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -174,4 +314,12 @@ public class UniqueEmployeeListTest {
     public void toStringMethod() {
         assertEquals(uniqueEmployeeList.asUnmodifiableObservableList().toString(), uniqueEmployeeList.toString());
     }
+
+    private static List<Employee> buildEmployees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new EmployeeBuilder(ALICE).withEmployeeId(String.format("E%06d", i)).build());
+        }
+        return employees;
+    }
 }
@@ -0,0 +1,109 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class AnniversaryCalendarTest {
+
+    private static final LocalDate NON_LEAP_FEB_27 = LocalDate.of(2025, 2, 27);
+    private static final LocalDate LEAP_FEB_27 = LocalDate.of(2028, 2, 27);
+
+    private final AnniversaryCalendar calendar = new AnniversaryCalendar();
+
+    @Test
+    public void add_nullEmployee_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> calendar.add(null));
+    }
+
+    @Test
+    public void getAnniversariesWithin_onlyReturnsAnniversariesInRange() {
+        Employee employee = employeeWith("1", LocalDate.of(1990, 3, 1), LocalDate.of(2015, 3, 5));
+        calendar.add(employee);
+
+        List<Pair<Employee, Anniversary>> found = calendar.getAnniversariesWithin(LocalDate.of(2026, 2, 27), 3);
+        assertEquals(1, found.size());
+        assertEquals(employee, found.get(0).getKey());
+        assertEquals(LocalDate.of(1990, 3, 1), found.get(0).getValue().getDate());
+
+        assertEquals(2, calendar.getAnniversariesWithin(LocalDate.of(2026, 2, 27), 6).size());
+        assertTrue(calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 2), 2).isEmpty());
+    }
+
+    @Test
+    public void getAnniversariesWithin_rangeWrapsAroundNewYear() {
+        calendar.add(employeeWith("1", LocalDate.of(1990, 1, 2), LocalDate.of(2015, 12, 31)));
+        assertEquals(2, calendar.getAnniversariesWithin(LocalDate.of(2026, 12, 30), 3).size());
+    }
+
+    @Test
+    public void getAnniversariesWithin_leapDay_recursOnFeb28InNonLeapYears() {
+        calendar.add(employeeWith("1", LocalDate.of(1996, 2, 29), LocalDate.of(2000, 2, 29)));
+
+        // Feb 28 of a non-leap year also covers Feb 29 anniversaries
+        assertEquals(2, calendar.getAnniversariesWithin(NON_LEAP_FEB_27, 1).size());
+        // in a leap year, Feb 29 has to be in range itself
+        assertTrue(calendar.getAnniversariesWithin(LEAP_FEB_27, 1).isEmpty());
+        assertEquals(2, calendar.getAnniversariesWithin(LEAP_FEB_27, 2).size());
+    }
+
+    @Test
+    public void getAnniversariesWithin_rangeLongerThanAYear_visitsEachBucketOnce() {
+        calendar.add(employeeWith("1", LocalDate.of(1990, 6, 15), LocalDate.of(2015, 2, 28)));
+        assertEquals(2, calendar.getAnniversariesWithin(NON_LEAP_FEB_27, 800).size());
+    }
+
+    @Test
+    public void remove_employee_removesAllItsAnniversaries() {
+        Employee first = employeeWith("1", LocalDate.of(1990, 3, 1), LocalDate.of(2015, 3, 1));
+        Employee second = employeeWith("2", LocalDate.of(1985, 3, 1), LocalDate.of(2010, 7, 1));
+        calendar.setAll(Arrays.asList(first, second));
+        assertEquals(3, calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 1), 0).size());
+
+        calendar.remove(first);
+        List<Pair<Employee, Anniversary>> found = calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 1), 0);
+        assertEquals(1, found.size());
+        assertEquals(second, found.get(0).getKey());
+
+        // removing an employee that is not in the calendar does nothing
+        calendar.remove(first);
+        assertEquals(1, calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 1), 0).size());
+    }
+
+    @Test
+    public void add_sameEmployeeId_replacesPreviousAnniversaries() {
+        calendar.add(employeeWith("1", LocalDate.of(1990, 3, 1), LocalDate.of(2015, 3, 1)));
+        Employee edited = employeeWith("1", LocalDate.of(1990, 8, 1), LocalDate.of(2015, 8, 1));
+        calendar.add(edited);
+
+        assertTrue(calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 1), 0).isEmpty());
+        assertEquals(2, calendar.getAnniversariesWithin(LocalDate.of(2026, 8, 1), 0).size());
+    }
+
+    @Test
+    public void remove_afterAnniversariesMutatedInPlace_removesRecordedEntries() {
+        Employee employee = employeeWith("1", LocalDate.of(1990, 3, 1), LocalDate.of(2015, 3, 1));
+        calendar.add(employee);
+        employee.getAnniversaries().clear();
+
+        calendar.remove(employee);
+        assertTrue(calendar.getAnniversariesWithin(LocalDate.of(2026, 3, 1), 0).isEmpty());
+    }
+
+    private static Employee employeeWith(String employeeId, LocalDate birthday, LocalDate workAnniversary) {
+        return new EmployeeBuilder().withEmployeeId(employeeId)
+                .withBirthdayAndWorkAnniversary(birthday, workAnniversary)
+                .build();
+    }
+}
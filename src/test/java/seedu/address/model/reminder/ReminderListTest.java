@@ -0,0 +1,75 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.anniversary.Birthday;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class ReminderListTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2026, 3, 1);
+
+    private final Employee first = new EmployeeBuilder().withEmployeeId("1").build();
+    private final Employee second = new EmployeeBuilder().withEmployeeId("2").build();
+    private final ReminderList reminderList = new ReminderList();
+    private final List<ListChangeListener.Change<? extends Reminder>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        reminderList.setAll(Arrays.asList(reminder(first, 0), reminder(second, 1), reminder(first, 3)));
+        reminderList.addListener((ListChangeListener<Reminder>) changes::add);
+    }
+
+    @Test
+    public void replaceRemindersOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> reminderList.replaceRemindersOf(null, List.of()));
+        assertThrows(NullPointerException.class, () -> reminderList.replaceRemindersOf(first, null));
+    }
+
+    @Test
+    public void replaceRemindersOf_insertsInChronologicalOrderAsOneChange() {
+        Reminder sameDayAsSecond = reminder(first, 1);
+        Reminder last = reminder(first, 2);
+        reminderList.replaceRemindersOf(first, Arrays.asList(sameDayAsSecond, last));
+
+        assertEquals(Arrays.asList(second, first, first), employeesOf(reminderList));
+        assertEquals(sameDayAsSecond, reminderList.get(1));
+        assertEquals(last, reminderList.get(2));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceRemindersOf_employeeWithoutReminders_noChange() {
+        Employee other = new EmployeeBuilder().withEmployeeId("3").build();
+        reminderList.replaceRemindersOf(other, List.of());
+        assertTrue(changes.isEmpty());
+        assertEquals(3, reminderList.size());
+    }
+
+    @Test
+    public void replaceRemindersOf_removeOnly_onlyAffectsThatEmployee() {
+        reminderList.replaceRemindersOf(first, List.of());
+        assertEquals(List.of(second), employeesOf(reminderList));
+        assertEquals(1, changes.size());
+    }
+
+    private static Reminder reminder(Employee employee, int daysAfterDayOne) {
+        return new Reminder(employee, DAY_ONE.plusDays(daysAfterDayOne), new Birthday(), "Birthday", DAY_ONE);
+    }
+
+    private static List<Employee> employeesOf(List<Reminder> reminders) {
+        return reminders.stream().map(Reminder::getEmployee).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,15 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void fromTrusted() {
+        assertThrows(NullPointerException.class, () -> Tag.fromTrusted(null));
+
+        // not validated again
+        assertEquals("", Tag.fromTrusted("").tagName);
+        assertEquals(new Tag("friends"), Tag.fromTrusted("friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
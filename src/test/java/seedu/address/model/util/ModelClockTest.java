@@ -0,0 +1,82 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelClockTest {
+
+    private static final ZoneId ZONE = ZoneOffset.ofHours(8);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModelClock(null));
+    }
+
+    @Test
+    public void today_fixedClock_returnsDateInClockZone() {
+        // 20:00 UTC is already the next day at UTC+8
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T20:00:00Z"), ZONE);
+        ModelClock modelClock = new ModelClock(clock);
+
+        assertSame(clock, modelClock.getClock());
+        assertEquals(LocalDate.of(2026, 10, 19), modelClock.today());
+        assertEquals(LocalDate.of(2026, 10, 19).toEpochDay(), modelClock.todayEpochDay());
+    }
+
+    @Test
+    public void today_clockPassesMidnight_refreshesDate() {
+        MutableClock clock = new MutableClock(LocalDate.of(2026, 12, 31).atTime(23, 59).atZone(ZONE).toInstant());
+        ModelClock modelClock = new ModelClock(clock);
+        assertEquals(LocalDate.of(2026, 12, 31), modelClock.today());
+
+        clock.advance(Duration.ofSeconds(59));
+        assertEquals(LocalDate.of(2026, 12, 31), modelClock.today());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(LocalDate.of(2027, 1, 1), modelClock.today());
+
+        // turning the clock back is picked up as well
+        clock.advance(Duration.ofDays(-2));
+        assertEquals(LocalDate.of(2026, 12, 30), modelClock.today());
+    }
+
+    /**
+     * A clock whose current instant can be moved by tests.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.Phone;
+
+public class CsvEmployeeReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportCommandTest");
+    private static final String HEADER = "employeeId,name,phone,email,jobposition,tags,anniversaryDate,"
+            + "anniversaryType,anniversaryTypeDesc,anniversaryName,anniversaryDescription\n";
+    private static final String ALICE_DETAILS =
+            "00000000-0000-0000-0000-000000000011,Alice Pauline,94351253,alice@example.com,Hiring Womanager,friends,";
+
+    @TempDir
+    public Path testFolder;
+
+    private static List<Employee> readEmployees(String csvData) throws Exception {
+        return CsvEmployeeReader.readEmployees(new BufferedReader(new StringReader(csvData)));
+    }
+
+    @Test
+    public void readEmployees_validCsvFile_success() throws Exception {
+        List<Employee> employees = CsvEmployeeReader.readEmployees(TEST_DATA_FOLDER.resolve("test.csv"));
+
+        assertEquals(7, employees.size());
+        assertEquals("Alice Pauline", employees.get(0).getName().toString());
+        assertEquals("94351253", employees.get(0).getPhone().toString());
+    }
+
+    @Test
+    public void readEmployees_rowsOfSameEmployee_merged() throws Exception {
+        List<Employee> employees = CsvEmployeeReader.readEmployees(TEST_DATA_FOLDER.resolve("testAggregate.csv"));
+
+        assertEquals(2, employees.size());
+        assertEquals("Alice Pauline", employees.get(0).getName().toString());
+        assertEquals(3, employees.get(0).getAnniversaries().size()); // duplicate anniversaries merged
+        assertEquals("Silver Wedding", employees.get(0).getAnniversaries().get(0).getName());
+        assertEquals(2, employees.get(1).getTags().size());
+    }
+
+    @Test
+    public void readEmployees_sameIdDifferentDetails_keptApart() throws Exception {
+        List<Employee> employees =
+                CsvEmployeeReader.readEmployees(TEST_DATA_FOLDER.resolve("testDuplicateInvalid.csv"));
+
+        assertEquals(2, employees.size());
+        assertEquals(employees.get(0).getEmployeeId(), employees.get(1).getEmployeeId());
+    }
+
+    @Test
+    public void readEmployees_windowsLineEndingsAndShortRows_success() throws Exception {
+        List<Employee> employees = readEmployees(HEADER.replace("\n", "\r\n") + "\r\n"
+                + ALICE_DETAILS + "2025-3-13,Birthday,,Alice's birthday,\r\n"
+                + "incomplete,row\r\n");
+
+        assertEquals(1, employees.size());
+        assertEquals("Alice's birthday", employees.get(0).getAnniversaries().get(0).getName());
+    }
+
+    @Test
+    public void readEmployees_invalidData_throwsException() {
+        assertThrows(CommandException.class, CsvEmployeeReader.MESSAGE_EMPTY_CSV, () -> readEmployees(" \n\n"));
+        assertThrows(CommandException.class, () -> readEmployees("employeeId,name,phone\n"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                readEmployees(HEADER + ALICE_DETAILS.replace("94351253", "phone") + ",,,,\n"));
+        String invalidDateMessage = String.format(CsvEmployeeReader.MESSAGE_INVALID_DATE, "13/03/2025");
+        assertThrows(IllegalValueException.class, invalidDateMessage, () ->
+                readEmployees(HEADER + ALICE_DETAILS + "13/03/2025,Birthday,,,\n"));
+    }
+
+    @Test
+    public void readEmployees_lineBreakInQuotedField_keptInField() throws Exception {
+        List<Employee> employees =
+                readEmployees(HEADER + ALICE_DETAILS + "2025-3-13,Birthday,,\"Alice's\nbirthday\",\n");
+
+        assertEquals(1, employees.size());
+        assertEquals("Alice's\nbirthday", employees.get(0).getAnniversaries().get(0).getName());
+    }
+
+    @Test
+    public void readEmployeesInChunks_anyChunkSize_sameAsReadingRows() throws Exception {
+        for (Path file : List.of(TEST_DATA_FOLDER.resolve("test.csv"), TEST_DATA_FOLDER.resolve("testAggregate.csv"))) {
+            List<Employee> expected = CsvEmployeeReader.readEmployees(file);
+            for (long chunkSize : new long[] {1, 7, 64, 1 << 20}) {
+                assertEquals(expected, CsvEmployeeReader.readEmployeesInChunks(file, chunkSize));
+            }
+        }
+    }
+
+    @Test
+    public void readEmployeesInChunks_lineBreaksInQuotedFields_keptInFields() throws Exception {
+        StringBuilder csvData = new StringBuilder("\n" + HEADER);
+        for (int i = 0; i < 20; i++) {
+            csvData.append(ALICE_DETAILS).append("2025-3-").append(i + 1).append(",Birthday,,\"Alice's\n\"\"")
+                    .append(i).append("\"\"\n\",\n");
+        }
+        Path file = testFolder.resolve("lineBreaks.csv");
+        Files.writeString(file, csvData);
+
+        List<Employee> expected = readEmployees(csvData.toString());
+        assertEquals(20, expected.get(0).getAnniversaries().size());
+        assertEquals("Alice's\n\"19\"", expected.get(0).getAnniversaries().get(19).getName());
+        for (long chunkSize : new long[] {1, 5, 13, 100}) {
+            assertEquals(expected, CsvEmployeeReader.readEmployeesInChunks(file, chunkSize));
+        }
+    }
+
+    @Test
+    public void readEmployeesInChunks_mixedLineEndings_sameAsReadingRows() throws Exception {
+        StringBuilder csvData = new StringBuilder(HEADER.replace("\n", "\r"));
+        String[] lineBreaks = {"\n", "\r", "\r\n"};
+        for (int i = 0; i < 20; i++) {
+            String lineBreak = lineBreaks[i % lineBreaks.length];
+            csvData.append(ALICE_DETAILS).append("2025-3-").append(i + 1).append(",Birthday,,\"Alice's")
+                    .append(lineBreak).append(i).append("\",").append(lineBreak);
+        }
+        Path file = testFolder.resolve("mixedLineEndings.csv");
+        Files.writeString(file, csvData);
+
+        List<Employee> expected = readEmployees(csvData.toString());
+        assertEquals(20, expected.get(0).getAnniversaries().size());
+        assertEquals("Alice's\n19", expected.get(0).getAnniversaries().get(19).getName());
+        for (long chunkSize : new long[] {1, 5, 13, 100}) {
+            assertEquals(expected, CsvEmployeeReader.readEmployeesInChunks(file, chunkSize));
+        }
+    }
+
+    @Test
+    public void readEmployeesInChunks_invalidData_throwsException() throws Exception {
+        Path emptyFile = testFolder.resolve("empty.csv");
+        Files.writeString(emptyFile, "\n\n");
+        assertThrows(CommandException.class, CsvEmployeeReader.MESSAGE_EMPTY_CSV, () ->
+                CsvEmployeeReader.readEmployeesInChunks(emptyFile, 1));
+
+        Path invalidFile = testFolder.resolve("invalid.csv");
+        Files.writeString(invalidFile, HEADER + ALICE_DETAILS + "2025-3-13,Birthday,,,\n"
+                + ALICE_DETAILS + "13/03/2025,Birthday,,,\n" + ALICE_DETAILS + "14/03/2025,Birthday,,,\n");
+        String invalidDateMessage = String.format(CsvEmployeeReader.MESSAGE_INVALID_DATE, "13/03/2025");
+        assertThrows(IllegalValueException.class, invalidDateMessage, () ->
+                CsvEmployeeReader.readEmployeesInChunks(invalidFile, 16));
+
+        Path malformedFile = testFolder.resolve("malformed.csv");
+        Files.write(malformedFile, (HEADER + ALICE_DETAILS + "2025-3-13,Birthday,,\u00ff,\n")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        assertThrows(CharacterCodingException.class, () ->
+                CsvEmployeeReader.readEmployeesInChunks(malformedFile, 16));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalPersons;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class CsvEmployeeWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static String write(List<Employee> employees) throws Exception {
+        StringWriter out = new StringWriter();
+        CsvEmployeeWriter writer = new CsvEmployeeWriter(out);
+        writer.writeHeader();
+        for (Employee employee : employees) {
+            writer.write(employee);
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void writeEmployees_typicalPersons_readBackUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("employees.csv");
+        CsvEmployeeWriter.writeEmployees(getTypicalPersons(), filePath);
+
+        assertEquals(getTypicalPersons(), CsvEmployeeReader.readEmployees(filePath));
+    }
+
+    @Test
+    public void write_valuesNeedingQuotes_parsedBackUnchanged() throws Exception {
+        String[] descriptions = {"plain", "a, b", "says \"hi\""};
+        for (String description : descriptions) {
+            Employee employee = new EmployeeBuilder().withTags("friends")
+                    .withAnniversary("2020-01-31", "Birthday", description, "").build();
+
+            String csv = write(List.of(employee));
+            String[] fields = JsonCsvConverter.parseCsvFields(csv.substring(csv.indexOf('\n') + 1, csv.length() - 1));
+            assertEquals(description, fields[fields.length - 1]);
+        }
+    }
+
+    @Test
+    public void write_valuesNeedingQuotes_quoted() throws Exception {
+        Employee employee = new EmployeeBuilder().withTags("friends")
+                .withAnniversary("2020-01-31", "Birthday", "says \"hi\",\nthen leaves", "").build();
+
+        String expectedRow = "00000000-0000-0000-0000-000000000001,Amy Bee,85355255,amy@gmail.com,Hiring Manager,"
+                + "friends,2020-01-31,Birthday,\"\",\"\",\"says \"\"hi\"\",\nthen leaves\"\n";
+        assertEquals(String.join(",", CsvEmployeeWriter.HEADERS) + "\n" + expectedRow, write(List.of(employee)));
+    }
+
+    @Test
+    public void write_noAnniversaries_singleRowWithEmptyAnniversaryFields() throws Exception {
+        Employee employee = new EmployeeBuilder().build();
+
+        String csv = write(List.of(employee));
+
+        assertEquals("00000000-0000-0000-0000-000000000001,Amy Bee,85355255,amy@gmail.com,Hiring Manager,"
+                + "\"\",,,,,\n", csv.substring(csv.indexOf('\n') + 1));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
@@ -9,13 +10,16 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32C;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,41 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptOrMissingDataFile_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        FileUtil.writeToFile(filePath, "{ \"persons\": [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksum_validatesOnlyChangedDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(JsonAddressBookStorage.getChecksumFilePath(filePath)));
+
+        // edited by hand, so the checksum no longer matches and the invalid phone is caught
+        String content = FileUtil.readFromFile(filePath).replace(ALICE.getPhone().value, "not a phone");
+        FileUtil.writeToFile(filePath, content);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+
+        // a matching checksum means the data is loaded as it is, without validating it again
+        CRC32C checksum = new CRC32C();
+        checksum.update(Files.readAllBytes(filePath));
+        FileUtil.writeToFile(JsonAddressBookStorage.getChecksumFilePath(filePath),
+                Long.toHexString(checksum.getValue()));
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("not a phone", readBack.getEmployeeList().get(0).getPhone().value);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
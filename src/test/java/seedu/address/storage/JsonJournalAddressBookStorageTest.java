@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookMutation;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class JsonJournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook readBack(Path filePath) throws DataLoadingException {
+        ReadOnlyAddressBook readBack = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JsonJournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_mutationsAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        storage.readAddressBook();
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Employee editedBenson = new EmployeeBuilder(BENSON).withName("Benson Tan").build();
+        Employee renumberedCarl = new EmployeeBuilder(CARL).withEmployeeId("00000000-0000-0000-0000-000000000099")
+                .build();
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, editedBenson);
+        original.setPerson(CARL, renumberedCarl);
+        original.addPerson(0, IDA);
+        storage.saveAddressBookChanges(List.of(
+                AddressBookMutation.add(original.getEmployeeList().size(), HOON),
+                AddressBookMutation.remove(ALICE),
+                AddressBookMutation.set(BENSON, editedBenson),
+                AddressBookMutation.set(CARL, renumberedCarl),
+                AddressBookMutation.add(0, IDA)));
+
+        // only the journal is written to
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readBack(filePath));
+
+        // saving without changes does not append anything
+        storage.saveAddressBookChanges(List.of());
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_snapshotReplacesJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(CARL);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.remove(CARL)));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        List<Employee> reversed = new ArrayList<>(original.getEmployeeList());
+        Collections.reverse(reversed);
+        original.setEmployees(reversed);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.reset(reversed),
+                AddressBookMutation.add(reversed.size(), HOON)));
+
+        // only the mutations after the reset are journaled
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_notReadOrSaved_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        assertThrows(IOException.class, () -> storage.saveAddressBookChanges(List.of()));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBookChanges(List.of());
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        storage.readAddressBook();
+
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.add(original.getEmployeeList().size() - 1, HOON)));
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertFalse(Files.exists(storage.getCompactingJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saves made while compacting go to a fresh journal
+        original.addPerson(IDA);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.add(original.getEmployeeList().size() - 1, IDA)));
+        original.removePerson(HOON);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.remove(HOON)));
+        storage.awaitCompaction();
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_discarded() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.add(original.getEmployeeList().size() - 1, HOON)));
+
+        Path journal = storage.getJournalFilePath();
+        long validLength = Files.size(journal);
+        Files.write(journal, "[{\"operation\":\"add\",\"emp".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, readBack(filePath));
+        assertEquals(validLength, Files.size(journal));
+    }
+
+    @Test
+    public void readAddressBook_unreadableSnapshotWithJournal_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(original);
+        storage.saveAddressBookChanges(List.of(AddressBookMutation.remove(ALICE)));
+
+        // the journal must not be replayed on the previous generation of the snapshot
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        Files.delete(filePath);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unreadableSnapshotWithoutJournal_fallsBackToPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        // changes cannot be journaled on the unreadable snapshot
+        assertThrows(IOException.class, () -> storage.saveAddressBookChanges(List.of()));
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSnapshot_replayedOnEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        Files.write(storage.getJournalFilePath(), ("[{\"operation\":\"remove\",\"employeeId\":\""
+                + ALICE.getEmployeeId() + "\"}]\n").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new AddressBook(), readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        Files.write(storage.getJournalFilePath(), "not json\n[]\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_malformedEmployeeIdInRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        Files.write(storage.getJournalFilePath(), "[{\"operation\":\"remove\",\"employeeId\":\"not an id\"}]\n[]\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+}
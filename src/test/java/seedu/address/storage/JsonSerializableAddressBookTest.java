@@ -1,16 +1,30 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_JOBPOSITION_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.EmployeeBuilder;
 import seedu.address.testutil.TypicalPersonsWithAnniversaries;
 
 public class JsonSerializableAddressBookTest {
@@ -50,4 +64,61 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_firstInvalidPersonReported() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new JsonAdaptedPerson(new EmployeeBuilder().withEmployeeId("id-" + i).build()));
+        }
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+        assertEquals(2000, addressBook.getEmployeeList().size());
+        assertEquals("id-1234", addressBook.getEmployeeList().get(1234).getEmployeeId().value);
+
+        // duplicate before an invalid person
+        persons.set(1500, new JsonAdaptedPerson(new EmployeeBuilder().withEmployeeId("id-10").build()));
+        persons.set(1900, new JsonAdaptedPerson("id-1900", VALID_NAME_BOB, "not a phone", VALID_EMAIL_BOB,
+                VALID_JOBPOSITION_BOB, new ArrayList<>(), new ArrayList<>()));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+
+        // invalid person before a duplicate
+        persons.set(700, new JsonAdaptedPerson("id-700", "R@chel!", VALID_PHONE_BOB, VALID_EMAIL_BOB,
+                VALID_JOBPOSITION_BOB, new ArrayList<>(), new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void readJson_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersonsWithAnniversaries.getTypicalAddressBook(),
+                    JsonSerializableAddressBook.readJson(in));
+        }
+    }
+
+    @Test
+    public void readJson_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readJson(in));
+        }
+    }
+
+    @Test
+    public void readJson_notAnAddressBook_throwsIoException() {
+        InputStream in = new ByteArrayInputStream("[ ]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readJson(in));
+    }
+
+    @Test
+    public void writeJson_typicalPersons_sameAsSerializedAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersonsWithAnniversaries.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableAddressBook.writeJson(addressBook, out);
+
+        String streamed = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), streamed);
+        assertEquals(addressBook, JsonSerializableAddressBook.readJson(new ByteArrayInputStream(out.toByteArray())));
+    }
+
 }
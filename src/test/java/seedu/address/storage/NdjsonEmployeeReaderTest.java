@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Employee;
+
+public class NdjsonEmployeeReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static List<Employee> read(String ndjson) throws Exception {
+        return NdjsonEmployeeReader.readEmployees(new BufferedReader(new StringReader(ndjson)));
+    }
+
+    private static String toLine(Employee employee) throws Exception {
+        return JsonUtil.getObjectMapper().writeValueAsString(new JsonAdaptedPerson(employee)) + "\n";
+    }
+
+    @Test
+    public void readEmployees_writtenFile_sameEmployees() throws Exception {
+        Path filePath = testFolder.resolve("employees.ndjson");
+        NdjsonEmployeeWriter.writeEmployees(getTypicalPersons(), filePath);
+
+        assertEquals(getTypicalPersons(), NdjsonEmployeeReader.readEmployees(filePath));
+    }
+
+    @Test
+    public void readEmployees_concatenatedFilesWithBlankLines_allEmployees() throws Exception {
+        assertEquals(List.of(ALICE, BENSON), read(toLine(ALICE) + "\n  \n" + toLine(BENSON) + "\n"));
+    }
+
+    @Test
+    public void readEmployees_noEmployees_throwsCommandException() {
+        assertThrows(CommandException.class, NdjsonEmployeeReader.MESSAGE_EMPTY_NDJSON, () -> read("\n \n"));
+    }
+
+    @Test
+    public void readEmployees_invalidValue_throwsWithLineNumber() throws Exception {
+        String invalidEmail = toLine(BENSON).replace(BENSON.getEmail().value, "not an email");
+        assertThrows(IllegalValueException.class,
+                String.format(NdjsonEmployeeReader.MESSAGE_INVALID_LINE, 3, Email.MESSAGE_CONSTRAINTS), () ->
+                        read(toLine(ALICE) + "\n" + invalidEmail));
+        assertThrows(IllegalValueException.class, String.format(NdjsonEmployeeReader.MESSAGE_INVALID_LINE, 1,
+                NdjsonEmployeeReader.MESSAGE_NOT_AN_EMPLOYEE), () -> read("null"));
+    }
+
+    @Test
+    public void readEmployees_malformedJson_throwsWithLineNumber() throws Exception {
+        String ndjson = toLine(ALICE) + "{\"name\": ";
+        IllegalValueException e = Assertions.assertThrows(IllegalValueException.class, () -> read(ndjson));
+        assertTrue(e.getMessage().startsWith(String.format(NdjsonEmployeeReader.MESSAGE_INVALID_LINE, 2, "")));
+    }
+}
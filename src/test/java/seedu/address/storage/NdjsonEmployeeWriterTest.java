@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalPersons;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class NdjsonEmployeeWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_employee_oneCompactLine() throws Exception {
+        StringWriter out = new StringWriter();
+        new NdjsonEmployeeWriter(out).write(ALICE);
+
+        String line = out.toString();
+        assertEquals(line.length() - 1, line.indexOf('\n'));
+        assertEquals(ALICE, JsonUtil.fromJsonString(line, JsonAdaptedPerson.class).toModelType());
+    }
+
+    @Test
+    public void writeEmployees_typicalPersons_oneLinePerEmployee() throws Exception {
+        Path filePath = testFolder.resolve("employees.ndjson");
+        NdjsonEmployeeWriter.writeEmployees(getTypicalPersons(), filePath);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(getTypicalPersons().size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(getTypicalPersons().get(i),
+                    JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPerson.class).toModelType());
+        }
+    }
+}